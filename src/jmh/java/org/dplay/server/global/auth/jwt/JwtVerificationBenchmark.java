@@ -0,0 +1,83 @@
+package org.dplay.server.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.dplay.server.global.auth.constant.Constant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Clock;
+
+/**
+ * JwtAuthenticationFilter 의 토큰 검증 비용 비교
+ * <ul>
+ *     <li>legacyFilter: 기존 필터 경로 (validateAccessToken + getUserIdFromJwt, 매번 파서 생성 후 두 번 파싱)</li>
+ *     <li>cachedFilter: 한 번 파싱 + 검증된 토큰 캐시</li>
+ * </ul>
+ * distinctTokens 는 요청에 섞여 들어오는 서로 다른 액세스 토큰 수입니다.
+ */
+@State(Scope.Thread)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "dplay-benchmark-secret-key-0123456789-abcdefghijklmnop";
+
+    @Param({"1", "10", "1000"})
+    private int distinctTokens;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenValidator jwtTokenValidator;
+    private Key signingKey;
+    private String[] tokens;
+    private int index;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider(Clock.systemUTC());
+        setField("accessTokenExpirationTime", 3_600_000L);
+        setField("refreshTokenExpirationTime", 1_209_600_000L);
+        setField("secretKey", SECRET_KEY);
+        setField("verifiedCacheMaximumSize", 10_000L);
+        jwtTokenProvider.afterPropertiesSet();
+        jwtTokenValidator = new JwtTokenValidator(jwtTokenProvider);
+        signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+
+        tokens = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = jwtTokenProvider.generateToken((long) i + 1, true);
+        }
+    }
+
+    @Benchmark
+    public Long legacyFilter() {
+        String token = nextToken();
+        // validateAccessToken
+        Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token).getBody();
+        // getUserIdFromJwt
+        Claims claims = Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token).getBody();
+        return Long.valueOf(claims.get(Constant.USER_ID).toString());
+    }
+
+    @Benchmark
+    public Long cachedFilter() {
+        return jwtTokenValidator.getUserIdFromAccessToken(nextToken());
+    }
+
+    private String nextToken() {
+        String token = tokens[index];
+        index = (index + 1) % tokens.length;
+        return token;
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+}
@@ -8,6 +8,7 @@ import org.dplay.server.controller.post.dto.PostRequest;
 import org.dplay.server.controller.post.dto.PostResponse;
 import org.dplay.server.controller.question.dto.PastRecommendationFeedRequest;
 import org.dplay.server.controller.question.dto.PastRecommendationFeedResponse;
+import org.dplay.server.controller.question.dto.TodayRecommendationFeedRequest;
 import org.dplay.server.controller.question.dto.TodayRecommendationFeedResponse;
 import org.dplay.server.domain.auth.service.AuthService;
 import org.dplay.server.domain.post.dto.PostDto;
@@ -206,17 +207,23 @@ public class PostController {
      * [ 오늘 추천글 조회 API ]
      *
      * @param accessToken 인증 토큰
+     * @param request     커서, 페이지 사이즈 정보 (둘 다 없으면 전체 목록을 한 번에 반환)
      * @return TodayRecommendationFeedResponse
      */
     @GetMapping("/today")
     public ResponseEntity<ApiResponse<TodayRecommendationFeedResponse>> getTodayRecommendationPosts(
-            @RequestHeader("Authorization") final String accessToken
+            @RequestHeader("Authorization") final String accessToken,
+            @Valid @ModelAttribute final TodayRecommendationFeedRequest request
     ) {
         Long userId = authService.getUserIdFromToken(accessToken);
 
-        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(userId);
+        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(
+                userId,
+                request.cursor(),
+                request.limit()
+        );
 
-        TodayRecommendationFeedResponse response = TodayRecommendationFeedResponse.from(result);
+        TodayRecommendationFeedResponse response = TodayRecommendationFeedResponse.from(result, request.cursor());
         return ResponseBuilder.ok(response);
     }
 
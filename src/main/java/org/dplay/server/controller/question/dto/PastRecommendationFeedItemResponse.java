@@ -1,9 +1,9 @@
 package org.dplay.server.controller.question.dto;
 
 import org.dplay.server.domain.post.dto.PostFeedItemDto;
-import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.track.entity.Track;
-import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
+import org.dplay.server.domain.track.dto.TrackDetailResultDto;
+import org.dplay.server.domain.user.dto.UserDetailResultDto;
 
 public record PastRecommendationFeedItemResponse(
         long postId,
@@ -16,33 +16,33 @@ public record PastRecommendationFeedItemResponse(
 ) {
 
     static PastRecommendationFeedItemResponse from(PostFeedItemDto dto) {
-        Post post = dto.post();
-        Track track = post.getTrack();
-        User author = post.getUser();
+        PostSummaryDto post = dto.post();
+        TrackDetailResultDto track = post.track();
+        UserDetailResultDto author = post.user();
 
         PastRecommendationFeedTrack feedTrack = new PastRecommendationFeedTrack(
-                track.getTrackId(),
-                track.getSongTitle(),
-                track.getCoverImg(),
-                track.getArtistName()
+                track.trackId(),
+                track.songTitle(),
+                track.coverImg(),
+                track.artistName()
         );
 
         PastRecommendationFeedUser feedUser = new PastRecommendationFeedUser(
-                author.getUserId(),
-                author.getNickname(),
-                author.getProfileImg()
+                author.userId(),
+                author.nickname(),
+                author.profileImg()
         );
 
         PastRecommendationFeedLike feedLike = new PastRecommendationFeedLike(
                 dto.isLiked(),
-                post.getLikeCount()
+                post.likeCount()
         );
 
         return new PastRecommendationFeedItemResponse(
-                post.getPostId(),
+                post.postId(),
                 dto.isEditorPick(),
                 dto.isScrapped(),
-                post.getContent(),
+                post.content(),
                 feedTrack,
                 feedUser,
                 feedLike
@@ -1,9 +1,9 @@
 package org.dplay.server.controller.question.dto;
 
 import org.dplay.server.domain.post.dto.PostFeedItemDto;
-import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.track.entity.Track;
-import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
+import org.dplay.server.domain.track.dto.TrackDetailResultDto;
+import org.dplay.server.domain.user.dto.UserDetailResultDto;
 
 public record TodayRecommendationFeedItemResponse(
         long postId,
@@ -16,33 +16,33 @@ public record TodayRecommendationFeedItemResponse(
 ) {
 
     static TodayRecommendationFeedItemResponse from(PostFeedItemDto dto,
-                                                    User author,
+                                                    UserDetailResultDto author,
                                                     TodayRecommendationFeedBadges badges) {
-        Post post = dto.post();
-        Track track = post.getTrack();
+        PostSummaryDto post = dto.post();
+        TrackDetailResultDto track = post.track();
 
         TodayRecommendationFeedTrack feedTrack = new TodayRecommendationFeedTrack(
-                track.getTrackId(),
-                track.getSongTitle(),
-                track.getCoverImg(),
-                track.getArtistName()
+                track.trackId(),
+                track.songTitle(),
+                track.coverImg(),
+                track.artistName()
         );
 
         TodayRecommendationFeedUser feedUser = new TodayRecommendationFeedUser(
-                author.getUserId(),
-                author.getNickname(),
-                author.getProfileImg()
+                author.userId(),
+                author.nickname(),
+                author.profileImg()
         );
 
         TodayRecommendationFeedLike feedLike = new TodayRecommendationFeedLike(
                 dto.isLiked(),
-                post.getLikeCount()
+                post.likeCount()
         );
 
         return new TodayRecommendationFeedItemResponse(
-                post.getPostId(),
+                post.postId(),
                 dto.isScrapped(),
-                post.getContent(),
+                post.content(),
                 badges,
                 feedTrack,
                 feedUser,
@@ -0,0 +1,12 @@
+package org.dplay.server.controller.question.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+public record TodayRecommendationFeedRequest(
+        String cursor,
+        @Positive
+        @Max(100)
+        Integer limit
+) {
+}
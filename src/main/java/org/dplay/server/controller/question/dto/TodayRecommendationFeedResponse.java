@@ -2,9 +2,10 @@ package org.dplay.server.controller.question.dto;
 
 import org.dplay.server.domain.post.dto.PostFeedItemDto;
 import org.dplay.server.domain.post.dto.PostFeedResultDto;
-import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
+import org.dplay.server.domain.user.dto.UserDetailResultDto;
 import org.dplay.server.global.util.DateTimeFormatUtil;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -17,22 +18,31 @@ public record TodayRecommendationFeedResponse(
         boolean hasPosted,
         boolean locked,
         long totalCount,
+        String nextCursor,
         List<TodayRecommendationFeedItemResponse> items
 ) {
 
     public static TodayRecommendationFeedResponse from(PostFeedResultDto dto) {
+        return from(dto, null);
+    }
+
+    /**
+     * @param requestCursor 요청에 사용된 커서. 이어지는 페이지라면 페이지 내 최다 좋아요/최신 글을 배지로 보정하지 않는다.
+     */
+    public static TodayRecommendationFeedResponse from(PostFeedResultDto dto, String requestCursor) {
         List<PostFeedItemDto> feedItems = dto.items();
-        boolean onlyEditorPicks = feedItems.stream().allMatch(PostFeedItemDto::isEditorPick);
+        boolean continuationPage = StringUtils.hasText(requestCursor);
+        boolean onlyEditorPicks = !continuationPage && feedItems.stream().allMatch(PostFeedItemDto::isEditorPick);
 
-        PostFeedItemDto popularItem = findMostPopularItem(feedItems);
-        PostFeedItemDto newestItem = findNewestItem(feedItems);
+        PostFeedItemDto popularItem = continuationPage ? null : findMostPopularItem(feedItems);
+        PostFeedItemDto newestItem = continuationPage ? null : findNewestItem(feedItems);
 
         List<TodayRecommendationFeedItemResponse> itemResponses = new ArrayList<>(feedItems.size());
 
         for (int index = 0; index < feedItems.size(); index++) {
             PostFeedItemDto item = feedItems.get(index);
-            Post post = item.post();
-            User author = post.getUser();
+            PostSummaryDto post = item.post();
+            UserDetailResultDto author = post.user();
 
             TodayRecommendationFeedBadges badges = createBadges(
                     item,
@@ -52,6 +62,7 @@ public record TodayRecommendationFeedResponse(
                 dto.hasPosted(),
                 dto.locked(),
                 dto.totalCount(),
+                dto.nextCursor(),
                 itemResponses
         );
     }
@@ -87,22 +98,22 @@ public record TodayRecommendationFeedResponse(
     }
 
     private static boolean samePost(PostFeedItemDto left, PostFeedItemDto right) {
-        return left.post().getPostId().equals(right.post().getPostId());
+        return left.post().postId().equals(right.post().postId());
     }
 
     private static PostFeedItemDto findMostPopularItem(List<PostFeedItemDto> items) {
         return items.stream()
                 .max(Comparator
-                        .comparingInt((PostFeedItemDto dto) -> dto.post().getLikeCount())
-                        .thenComparingLong(dto -> -dto.post().getPostId()))
+                        .comparingInt((PostFeedItemDto dto) -> dto.post().likeCount())
+                        .thenComparingLong(dto -> -dto.post().postId()))
                 .orElse(null);
     }
 
     private static PostFeedItemDto findNewestItem(List<PostFeedItemDto> items) {
         return items.stream()
                 .max(Comparator
-                        .comparing((PostFeedItemDto dto) -> dto.post().getCreatedAt(), Comparator.nullsFirst(Comparator.naturalOrder()))
-                        .thenComparingLong(dto -> dto.post().getPostId()))
+                        .comparing((PostFeedItemDto dto) -> dto.post().createdAt(), Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparingLong(dto -> dto.post().postId()))
                 .orElse(null);
     }
 }
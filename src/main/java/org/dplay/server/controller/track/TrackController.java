@@ -2,6 +2,7 @@ package org.dplay.server.controller.track;
 
 import lombok.RequiredArgsConstructor;
 import org.dplay.server.controller.track.dto.TrackDetailResponse;
+import org.dplay.server.controller.track.dto.TrackDetailsResponse;
 import org.dplay.server.controller.track.dto.TrackPreviewResponse;
 import org.dplay.server.controller.track.dto.TrackSearchResponse;
 import org.dplay.server.domain.auth.service.AuthService;
@@ -16,10 +17,14 @@ import org.dplay.server.global.response.ResponseError;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/v1/tracks")
 @RequiredArgsConstructor
 public class TrackController {
+    private static final int MAX_TRACK_DETAILS = 300;
+
     private final TrackService trackService;
     private final AuthService authService;
 
@@ -99,6 +104,36 @@ public class TrackController {
         return ResponseBuilder.ok(response);
     }
 
+    /**
+     * [ 음악 다건 상세 조회 API ]
+     *
+     * @param accessToken 인증 토큰
+     * @param trackIds    트랙 ID 목록 (apple:{appleMusicId} 형식, 쉼표로 구분, 최대 300개)
+     * @param storefront  국가 코드
+     * @return TrackDetailsResponse
+     * @apiNote 여러 트랙의 상세 정보를 한 번에 조회합니다. 찾을 수 없는 트랙은 결과에서 제외됩니다.
+     */
+    @GetMapping("/details")
+    public ResponseEntity<ApiResponse<TrackDetailsResponse>> getTrackDetails(
+            @RequestHeader("Authorization") final String accessToken,
+            @RequestParam("trackIds") List<String> trackIds,
+            @RequestParam(value = "storefront", required = false) String storefront
+    ) {
+        // trackIds 검증
+        if (trackIds == null || trackIds.isEmpty() || trackIds.size() > MAX_TRACK_DETAILS
+                || trackIds.stream().anyMatch(trackId -> trackId == null || !trackId.startsWith("apple:"))) {
+            throw new DPlayException(ResponseError.INVALID_REQUEST_PARAMETER);
+        }
+        // 인증 검증 (토큰 유효성 확인)
+        authService.getUserIdFromToken(accessToken);
+
+        List<TrackDetailResultDto> result = trackService.getTrackDetails(trackIds, storefront);
+
+        TrackDetailsResponse response = TrackDetailsResponse.from(result);
+
+        return ResponseBuilder.ok(response);
+    }
+
     /**
      * [ 음악 미리듣기 API ]
      *
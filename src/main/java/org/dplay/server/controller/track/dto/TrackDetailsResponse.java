@@ -0,0 +1,17 @@
+package org.dplay.server.controller.track.dto;
+
+import org.dplay.server.domain.track.dto.TrackDetailResultDto;
+
+import java.util.List;
+
+public record TrackDetailsResponse(
+        List<TrackDetailResponse> tracks
+) {
+    public static TrackDetailsResponse from(List<TrackDetailResultDto> dtos) {
+        return new TrackDetailsResponse(
+                dtos.stream()
+                        .map(TrackDetailResponse::from)
+                        .toList()
+        );
+    }
+}
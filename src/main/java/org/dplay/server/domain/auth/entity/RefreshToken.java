@@ -0,0 +1,59 @@
+package org.dplay.server.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.dplay.server.domain.common.BaseTimeEntity;
+import org.dplay.server.domain.user.entity.User;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급된 리프레시 토큰 (로그인한 기기마다 한 행)
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 유니크 인덱스로 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "refresh_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = {"token_hash"})
+        },
+        indexes = {
+                @Index(name = "idx_refresh_token_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+        }
+)
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long refreshTokenId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private RefreshToken(User user, String tokenHash, LocalDateTime expiresAt) {
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -4,12 +4,11 @@ import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.dplay.server.domain.auth.dto.SocialUserDto;
 import org.dplay.server.domain.auth.openfeign.apple.AppleFeignClient;
-import org.dplay.server.domain.auth.openfeign.apple.dto.ApplePublicKeys;
 import org.dplay.server.domain.auth.openfeign.apple.dto.AppleTokenDto;
 import org.dplay.server.domain.auth.openfeign.apple.service.AppleService;
 import org.dplay.server.domain.auth.openfeign.apple.verify.AppleClientSecretGenerator;
 import org.dplay.server.domain.auth.openfeign.apple.verify.AppleJwtParser;
-import org.dplay.server.domain.auth.openfeign.apple.verify.PublicKeyGenerator;
+import org.dplay.server.domain.auth.openfeign.apple.verify.ApplePublicKeyCache;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,7 +23,7 @@ public class AppleServiceImpl implements AppleService {
 
     private final AppleFeignClient appleFeignClient;
     private final AppleJwtParser appleJwtParser;
-    private final PublicKeyGenerator publicKeyGenerator;
+    private final ApplePublicKeyCache applePublicKeyCache;
     private final AppleClientSecretGenerator appleClientSecretGenerator;
 
     @Value("${oauth.apple.client-id}")
@@ -33,8 +32,7 @@ public class AppleServiceImpl implements AppleService {
     public SocialUserDto getSocialUserInfo(String identityToken) {
 
         Map<String, String> headers = appleJwtParser.parseHeaders(identityToken);
-        ApplePublicKeys applePublicKeys = appleFeignClient.getApplePublicKeys();
-        PublicKey publicKey = publicKeyGenerator.generatePublicKey(headers, applePublicKeys);
+        PublicKey publicKey = applePublicKeyCache.getPublicKey(headers);
         Claims claims = appleJwtParser.parsePublicKeyAndGetClaims(identityToken, publicKey);
         return SocialUserDto.of(claims.get("sub", String.class));
     }
@@ -0,0 +1,126 @@
+package org.dplay.server.domain.auth.openfeign.apple.verify;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.domain.auth.openfeign.apple.AppleFeignClient;
+import org.dplay.server.domain.auth.openfeign.apple.dto.ApplePublicKey;
+import org.dplay.server.domain.auth.openfeign.apple.dto.ApplePublicKeys;
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Apple 공개키(JWKS)를 kid 별 PublicKey 로 캐시하는 컴포넌트
+ * <p>
+ * 공개키 목록은 스케줄러가 주기적으로 갱신하고, 캐시에 없는 kid 가 들어오면 즉시 한 번 더 갱신합니다.
+ * 임의의 kid 로 Apple 호출을 유도할 수 없도록 갱신은 min-refresh-interval 에 한 번으로 제한합니다.
+ */
+@Slf4j
+@Component
+public class ApplePublicKeyCache {
+
+    private static final String SIGN_ALGORITHM_HEADER_KEY = "alg";
+    private static final String KEY_ID_HEADER_KEY = "kid";
+
+    private final AppleFeignClient appleFeignClient;
+    private final PublicKeyGenerator publicKeyGenerator;
+    private final Clock clock;
+    private final Duration minRefreshInterval;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, CachedPublicKey> keysByKid = Map.of();
+    private volatile Instant lastRefreshedAt = Instant.EPOCH;
+
+    public ApplePublicKeyCache(
+            AppleFeignClient appleFeignClient,
+            PublicKeyGenerator publicKeyGenerator,
+            Clock clock,
+            @Value("${oauth.apple.public-key.min-refresh-interval:PT1M}") Duration minRefreshInterval
+    ) {
+        this.appleFeignClient = appleFeignClient;
+        this.publicKeyGenerator = publicKeyGenerator;
+        this.clock = clock;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    /**
+     * identity token 헤더의 alg, kid 에 맞는 공개키를 반환합니다.
+     *
+     * @param headers identity token 헤더
+     * @return Apple 공개키
+     * @throws DPlayException 갱신 후에도 맞는 키가 없으면 INVALID_TOKEN
+     */
+    public PublicKey getPublicKey(Map<String, String> headers) {
+        String alg = headers.get(SIGN_ALGORITHM_HEADER_KEY);
+        String kid = headers.get(KEY_ID_HEADER_KEY);
+        if (alg == null || kid == null) {
+            throw new DPlayException(ResponseError.INVALID_TOKEN);
+        }
+
+        CachedPublicKey cached = keysByKid.get(kid);
+        if (cached == null) {
+            refreshOnMiss();
+            cached = keysByKid.get(kid);
+        }
+        if (cached == null || !cached.alg().equals(alg)) {
+            throw new DPlayException(ResponseError.INVALID_TOKEN);
+        }
+        return cached.publicKey();
+    }
+
+    /**
+     * Apple 공개키 목록을 주기적으로 갱신합니다. 실패하면 기존 키를 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${oauth.apple.public-key.refresh-interval-ms:3600000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Apple 공개키 갱신 실패, 기존 키를 유지합니다.", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refreshOnMiss() {
+        refreshLock.lock();
+        try {
+            if (clock.instant().isBefore(lastRefreshedAt.plus(minRefreshInterval))) {
+                return;
+            }
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Apple 공개키 조회 실패", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void reload() {
+        lastRefreshedAt = clock.instant();
+        ApplePublicKeys applePublicKeys = appleFeignClient.getApplePublicKeys();
+
+        Map<String, CachedPublicKey> reloaded = new HashMap<>();
+        for (ApplePublicKey applePublicKey : applePublicKeys.keys()) {
+            reloaded.put(applePublicKey.kid(), new CachedPublicKey(
+                    applePublicKey.alg(),
+                    publicKeyGenerator.generatePublicKey(applePublicKey)
+            ));
+        }
+        keysByKid = Map.copyOf(reloaded);
+        log.debug("Apple 공개키 갱신 완료 (keys: {})", reloaded.size());
+    }
+
+    private record CachedPublicKey(String alg, PublicKey publicKey) {
+    }
+}
@@ -1,7 +1,6 @@
 package org.dplay.server.domain.auth.openfeign.apple.verify;
 
 import org.dplay.server.domain.auth.openfeign.apple.dto.ApplePublicKey;
-import org.dplay.server.domain.auth.openfeign.apple.dto.ApplePublicKeys;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
 import org.springframework.stereotype.Component;
@@ -13,23 +12,13 @@ import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
-import java.util.Map;
 
 @Component
 public class PublicKeyGenerator {
 
-    private static final String SIGN_ALGORITHM_HEADER_KEY = "alg";
-    private static final String KEY_ID_HEADER_KEY = "kid";
     private static final int POSITIVE_SIGN_NUMBER = 1;
 
-    public PublicKey generatePublicKey(Map<String, String> headers, ApplePublicKeys applePublicKeys) {
-        ApplePublicKey applePublicKey =
-                applePublicKeys.getMatchesKey(headers.get(SIGN_ALGORITHM_HEADER_KEY), headers.get(KEY_ID_HEADER_KEY));
-
-        return generatePublicKeyWithApplePublicKey(applePublicKey);
-    }
-
-    private PublicKey generatePublicKeyWithApplePublicKey(ApplePublicKey publicKey) {
+    public PublicKey generatePublicKey(ApplePublicKey publicKey) {
         byte[] nBytes = Base64.getUrlDecoder().decode(publicKey.n());
         byte[] eBytes = Base64.getUrlDecoder().decode(publicKey.e());
 
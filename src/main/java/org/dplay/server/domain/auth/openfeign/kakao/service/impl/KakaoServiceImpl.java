@@ -1,5 +1,7 @@
 package org.dplay.server.domain.auth.openfeign.kakao.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.dplay.server.domain.auth.dto.SocialUserDto;
 import org.dplay.server.domain.auth.openfeign.kakao.KakaoFeignClient;
@@ -8,30 +10,61 @@ import org.dplay.server.domain.auth.openfeign.kakao.service.KakaoService;
 import org.dplay.server.global.auth.constant.Constant;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.HashUtil;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
-public class KakaoServiceImpl implements KakaoService {
+public class KakaoServiceImpl implements KakaoService, InitializingBean {
 
     private final KakaoFeignClient kakaoFeignClient;
+    private final Clock clock;
 
     @Value("${oauth.kakao.admin-key}")
     private String adminKey;
+    @Value("${oauth.kakao.token-cache.ttl:PT5M}")
+    private Duration tokenCacheTtl;
+    @Value("${oauth.kakao.token-cache.maximum-size:10000}")
+    private long tokenCacheMaximumSize;
+
+    /**
+     * 카카오 액세스 토큰의 SHA-256 해시 → 카카오 회원 번호 캐시
+     * 재시도나 연속 로그인처럼 같은 토큰이 짧은 시간에 반복될 때 카카오 사용자 정보 API 호출을 건너뜁니다.
+     * 조회에 성공한 토큰만 저장합니다.
+     */
+    private Cache<String, String> platformIdCache;
+
+    @Override
+    public void afterPropertiesSet() {
+        this.platformIdCache = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaximumSize)
+                .expireAfterWrite(tokenCacheTtl)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
 
     @Override
     public SocialUserDto getSocialUserInfo(String providerToken) {
+        String cacheKey = HashUtil.sha256Hex(providerToken);
+        String cachedPlatformId = platformIdCache.getIfPresent(cacheKey);
+        if (cachedPlatformId != null) {
+            return SocialUserDto.of(cachedPlatformId);
+        }
+
         try {
             KakaoUserDto kakaoUserDto = kakaoFeignClient.getUserInformation(Constant.BEARER_TOKEN_PREFIX + providerToken);
-            return SocialUserDto.of(
-                    kakaoUserDto.id().toString()
-            );
+            String platformId = kakaoUserDto.id().toString();
+            platformIdCache.put(cacheKey, platformId);
+            return SocialUserDto.of(platformId);
         } catch (Exception e) {
             throw new DPlayException(ResponseError.INVALID_TOKEN);
         }
-
-
     }
 
     @Override
@@ -0,0 +1,52 @@
+package org.dplay.server.domain.auth.repository;
+
+import org.dplay.server.domain.auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 리프레시 토큰을 조회합니다. (uk_refresh_token_hash 인덱스 사용)
+     *
+     * @param tokenHash 리프레시 토큰의 SHA-256 해시
+     * @return RefreshToken (없으면 Optional.empty())
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 토큰 해시로 리프레시 토큰을 한 번의 쿼리로 삭제합니다.
+     * 동시에 같은 토큰으로 재발급을 요청한 경우 한 요청만 1을 받습니다.
+     *
+     * @param tokenHash 리프레시 토큰의 SHA-256 해시
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 유저의 모든 리프레시 토큰(모든 기기 세션)을 삭제합니다.
+     *
+     * @param userId 유저 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 만료된 리프레시 토큰을 삭제합니다.
+     *
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package org.dplay.server.domain.auth.service;
+
+public interface RefreshTokenService {
+
+    void save(Long userId, String refreshToken);
+
+    Long consume(String refreshToken);
+
+    void deleteAllByUserId(Long userId);
+
+    void deleteExpired();
+}
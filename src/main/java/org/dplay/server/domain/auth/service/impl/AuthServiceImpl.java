@@ -11,6 +11,7 @@ import org.dplay.server.domain.auth.dto.SocialUserDto;
 import org.dplay.server.domain.auth.openfeign.apple.service.AppleService;
 import org.dplay.server.domain.auth.openfeign.kakao.service.KakaoService;
 import org.dplay.server.domain.auth.service.AuthService;
+import org.dplay.server.domain.auth.service.RefreshTokenService;
 import org.dplay.server.domain.user.Platform;
 import org.dplay.server.domain.user.entity.User;
 import org.dplay.server.domain.user.facade.UserFacade;
@@ -38,6 +39,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final NicknameValidator nicknameValidator;
     private final UserFacade userFacade;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     @Transactional
@@ -50,7 +52,7 @@ public class AuthServiceImpl implements AuthService {
         if (isRegistered) {
             User user = userService.findUserByProviderIdAndProvider(platformId, loginRequest.platform());
             JwtTokenResponse tokens = jwtTokenProvider.issueTokens(user.getUserId());
-            user.updateRefreshToken(tokens.refreshToken());
+            refreshTokenService.save(user.getUserId(), tokens.refreshToken());
             log.info("[LOGIN-END] 로그인 성공. userId={}, accessTokenPrefix={}",
                     user.getUserId(), tokens.accessToken().substring(0, 10));
             return tokens;
@@ -73,7 +75,7 @@ public class AuthServiceImpl implements AuthService {
             throw new DPlayException(ResponseError.INVALID_ACCESS_TOKEN);
         }
 
-        userService.removeRefreshToken(userId);
+        refreshTokenService.deleteAllByUserId(userId);
     }
 
     @Override
@@ -94,7 +96,7 @@ public class AuthServiceImpl implements AuthService {
         User user = userService.makeUser(platformId, signupRequest.platform(), signupRequest.nickname(), profileImg);
 
         JwtTokenResponse tokens = jwtTokenProvider.issueTokens(user.getUserId());
-        user.updateRefreshToken(tokens.refreshToken());
+        refreshTokenService.save(user.getUserId(), tokens.refreshToken());
 
         return tokens;
     }
@@ -113,11 +115,15 @@ public class AuthServiceImpl implements AuthService {
             throw new DPlayException(ResponseError.INVALID_PLATFORM_TYPE);
         }
 
+        refreshTokenService.deleteAllByUserId(userId);
         userFacade.deleteUser(userId);
     }
 
+    /**
+     * 사용한 리프레시 토큰의 삭제는 만료나 소유자 불일치로 실패하더라도 커밋되어야 하므로 DPlayException 으로는 롤백하지 않습니다.
+     */
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = DPlayException.class)
     public JwtTokenResponse reissueToken(final String refreshToken) {
         Long userId;
         String token = getToken(refreshToken);
@@ -130,13 +136,13 @@ public class AuthServiceImpl implements AuthService {
             throw new DPlayException(ResponseError.INVALID_REFRESH_TOKEN);
         }
 
-        User user = userService.findByRefreshToken(getToken(refreshToken));
-        if (!userId.equals(user.getUserId())) {
+        Long ownerId = refreshTokenService.consume(token);
+        if (!userId.equals(ownerId)) {
             throw new DPlayException(ResponseError.INVALID_REFRESH_TOKEN);
         }
 
         JwtTokenResponse tokens = jwtTokenProvider.issueTokens(userId);
-        user.updateRefreshToken(tokens.refreshToken());
+        refreshTokenService.save(userId, tokens.refreshToken());
         return tokens;
     }
 
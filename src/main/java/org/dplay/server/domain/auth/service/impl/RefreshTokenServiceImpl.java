@@ -0,0 +1,112 @@
+package org.dplay.server.domain.auth.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.domain.auth.entity.RefreshToken;
+import org.dplay.server.domain.auth.repository.RefreshTokenRepository;
+import org.dplay.server.domain.auth.service.RefreshTokenService;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.HashUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 저장소
+ * <p>
+ * 토큰은 SHA-256 해시로만 저장/조회하며, 기기(로그인)마다 한 행을 가집니다.
+ * 재발급 시 기존 토큰은 삭제되고 새 토큰이 저장되므로, 한 번 사용한 토큰은 다시 사용할 수 없습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final Duration refreshTokenExpiration;
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            Clock clock,
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpirationMillis
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.refreshTokenExpiration = Duration.ofMillis(refreshTokenExpirationMillis);
+    }
+
+    /**
+     * 새로 발급한 리프레시 토큰을 저장합니다.
+     *
+     * @param userId       유저 ID
+     * @param refreshToken 리프레시 토큰 원문
+     */
+    @Override
+    @Transactional
+    public void save(Long userId, String refreshToken) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(userRepository.getReferenceById(userId))
+                .tokenHash(HashUtil.sha256Hex(refreshToken))
+                .expiresAt(LocalDateTime.now(clock).plus(refreshTokenExpiration))
+                .build());
+    }
+
+    /**
+     * 리프레시 토큰을 사용 처리(삭제)하고 토큰 소유자의 userId 를 반환합니다.
+     *
+     * @param refreshToken 리프레시 토큰 원문
+     * @return 토큰 소유자의 userId
+     * 만료된 토큰도 삭제가 커밋되어야 재사용할 수 없으므로, DPlayException 으로는 롤백하지 않습니다.
+     *
+     * @throws DPlayException 저장소에 없거나 이미 사용된 토큰이면 INVALID_REFRESH_TOKEN, 만료되었으면 EXPIRED_REFRESH_TOKEN
+     */
+    @Override
+    @Transactional(noRollbackFor = DPlayException.class)
+    public Long consume(String refreshToken) {
+        String tokenHash = HashUtil.sha256Hex(refreshToken);
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new DPlayException(ResponseError.INVALID_REFRESH_TOKEN));
+
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw new DPlayException(ResponseError.INVALID_REFRESH_TOKEN);
+        }
+        if (stored.isExpired(LocalDateTime.now(clock))) {
+            throw new DPlayException(ResponseError.EXPIRED_REFRESH_TOKEN);
+        }
+        return stored.getUser().getUserId();
+    }
+
+    /**
+     * 유저의 모든 기기 세션을 종료합니다.
+     *
+     * @param userId 유저 ID
+     */
+    @Override
+    @Transactional
+    public void deleteAllByUserId(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * 만료된 리프레시 토큰을 주기적으로 정리합니다.
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${jwt.refresh-token-cleanup-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteAllExpired(LocalDateTime.now(clock));
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 정리 완료 (deleted: {})", deleted);
+        }
+    }
+}
@@ -27,5 +27,15 @@ public interface AppleMusicFeignClient {
             @PathVariable("storefront") String storefront,
             @PathVariable("id") String id
     );
+
+    /**
+     * 여러 곡을 한 번에 조회합니다. ids 는 쉼표로 구분하며 최대 300개까지 허용됩니다.
+     */
+    @GetMapping("/v1/catalog/{storefront}/songs")
+    AppleMusicTrackDetailResponse getTracks(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable("storefront") String storefront,
+            @RequestParam("ids") String ids
+    );
 }
 
@@ -1,30 +1,55 @@
 package org.dplay.server.domain.music.openfeign.apple.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dplay.server.domain.music.dto.MusicSearchItemDto;
 import org.dplay.server.domain.music.openfeign.apple.AppleMusicFeignClient;
 import org.dplay.server.domain.music.openfeign.apple.dto.AppleMusicSearchResponse;
 import org.dplay.server.domain.music.openfeign.apple.dto.AppleMusicTrackData;
 import org.dplay.server.domain.music.openfeign.apple.dto.AppleMusicTrackDetailResponse;
+import org.dplay.server.domain.music.repository.MusicSearchCacheRepository;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AppleMusicService {
 
+    private static final int MAX_IDS_PER_REQUEST = 300;
+
     private final AppleMusicFeignClient appleMusicFeignClient;
     private final AppleMusicTokenService appleMusicTokenService;
+    private final MusicSearchCacheRepository musicSearchCacheRepository;
+    private final SingleFlight<String, MusicSearchResult> searchFlight;
+    private final SingleFlight<String, AppleMusicTrackData> trackFlight;
+
+    public AppleMusicService(
+            AppleMusicFeignClient appleMusicFeignClient,
+            AppleMusicTokenService appleMusicTokenService,
+            MusicSearchCacheRepository musicSearchCacheRepository,
+            @Value("${apple.music.single-flight.max-keys:1000}") int singleFlightMaxKeys,
+            @Value("${apple.music.single-flight.timeout:PT5S}") Duration singleFlightTimeout
+    ) {
+        this.appleMusicFeignClient = appleMusicFeignClient;
+        this.appleMusicTokenService = appleMusicTokenService;
+        this.musicSearchCacheRepository = musicSearchCacheRepository;
+        this.searchFlight = new SingleFlight<>(singleFlightMaxKeys, singleFlightTimeout);
+        this.trackFlight = new SingleFlight<>(singleFlightMaxKeys, singleFlightTimeout);
+    }
 
     /**
      * Apple Music API를 통해 음악 검색
+     * 동일한 (검색어, storefront, limit, offset) 결과는 로컬/Redis 캐시에서 반환하고,
+     * 캐시 미스가 동시에 발생하면 Apple Music API 호출을 하나로 합칩니다.
      *
      * @param query      검색 키워드
      * @param limit      결과 수 제한
@@ -33,7 +58,21 @@ public class AppleMusicService {
      * @return 검색 결과와 다음 커서
      */
     public MusicSearchResult searchMusic(String query, Integer limit, String storefront, Integer offset) {
-        String developerToken = appleMusicTokenService.generateDeveloperToken();
+        Optional<MusicSearchResult> cached = musicSearchCacheRepository.find(query, storefront, limit, offset);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String key = musicSearchCacheRepository.keyOf(query, storefront, limit, offset);
+        return searchFlight.execute(key, () -> {
+            MusicSearchResult result = searchMusicFromAppleMusic(query, limit, storefront, offset);
+            musicSearchCacheRepository.save(query, storefront, limit, offset, result);
+            return result;
+        });
+    }
+
+    private MusicSearchResult searchMusicFromAppleMusic(String query, Integer limit, String storefront, Integer offset) {
+        String developerToken = appleMusicTokenService.getDeveloperToken();
         String authorization = "Bearer " + developerToken;
 
         try {
@@ -103,8 +142,12 @@ public class AppleMusicService {
      */
     public MusicTrackDetailResult getTrackDetail(String trackId, String storefront) {
         AppleMusicTrackData trackData = fetchTrackDataFromAppleMusic(trackId, storefront);
+        return toTrackDetailResult(trackId, trackData);
+    }
+
+    private MusicTrackDetailResult toTrackDetailResult(String trackId, AppleMusicTrackData trackData) {
         var attrs = trackData.attributes();
-        
+
         // 고해상도 이미지 URL 생성 (1024x1024)
         String coverImg = attrs.artwork() != null ? getHighResolutionCoverImageUrl(attrs.artwork()) : null;
 
@@ -117,6 +160,49 @@ public class AppleMusicService {
         );
     }
 
+    /**
+     * Apple Music API를 통해 여러 트랙의 상세 정보를 한 번에 조회
+     * 최대 300개씩 묶어 songs?ids= 로 요청하며, 찾을 수 없는 트랙은 결과에서 제외됩니다.
+     *
+     * @param trackIds   트랙 ID 목록 (apple:{appleMusicId} 형식)
+     * @param storefront 국가 코드 (기본값: kr)
+     * @return 조회된 트랙 상세 정보 목록
+     */
+    public List<MusicTrackDetailResult> getTrackDetails(List<String> trackIds, String storefront) {
+        String finalStorefront = storefront == null || storefront.isBlank() ? "kr" : storefront;
+        List<String> appleMusicIds = trackIds.stream()
+                .map(this::extractAppleMusicId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (appleMusicIds.isEmpty()) {
+            return List.of();
+        }
+
+        String authorization = "Bearer " + appleMusicTokenService.getDeveloperToken();
+        List<MusicTrackDetailResult> results = new ArrayList<>(appleMusicIds.size());
+        for (int from = 0; from < appleMusicIds.size(); from += MAX_IDS_PER_REQUEST) {
+            List<String> chunk = appleMusicIds.subList(from, Math.min(from + MAX_IDS_PER_REQUEST, appleMusicIds.size()));
+            try {
+                AppleMusicTrackDetailResponse response = appleMusicFeignClient.getTracks(
+                        authorization,
+                        finalStorefront,
+                        String.join(",", chunk)
+                );
+                if (response == null || response.data() == null) {
+                    continue;
+                }
+                for (AppleMusicTrackData trackData : response.data()) {
+                    results.add(toTrackDetailResult("apple:" + trackData.id(), trackData));
+                }
+            } catch (Exception e) {
+                // 일부 묶음이 실패해도 나머지 결과는 반환
+                log.error("Failed to fetch tracks from Apple Music (count: {})", chunk.size(), e);
+            }
+        }
+        return results;
+    }
+
     /**
      * trackId에서 Apple Music ID 추출
      * 형식: apple:{appleMusicId}
@@ -152,14 +238,14 @@ public class AppleMusicService {
     }
 
     /**
-     * Apple Music API를 통해 트랙 미리듣기 URL 조회
-     * 미리듣기 URL은 지역에 따라 제공되지 않을 수 있으므로 null을 반환할 수 있습니다.
+     * Apple Music API를 통해 트랙 메타데이터 조회
+     * 미리듣기 URL은 지역에 따라 제공되지 않을 수 있으므로 null일 수 있습니다.
      *
      * @param trackId    트랙 ID (apple:{appleMusicId} 형식)
      * @param storefront 국가 코드 (기본값: kr)
-     * @return 미리듣기 URL 정보 (previewUrl이 없으면 streamUrl이 null)
+     * @return 앨범명, 재생 시간, 미리듣기 URL, 아트워크 URL 템플릿
      */
-    public MusicPreviewResult getTrackPreview(String trackId, String storefront) {
+    public MusicTrackMetadataResult getTrackMetadata(String trackId, String storefront) {
         AppleMusicTrackData trackData = fetchTrackDataFromAppleMusic(trackId, storefront);
         var attrs = trackData.attributes();
 
@@ -169,9 +255,12 @@ public class AppleMusicService {
             previewUrl = attrs.previews().get(0).url();
         }
 
-        return new MusicPreviewResult(
+        return new MusicTrackMetadataResult(
                 trackId,
-                previewUrl
+                attrs.albumName(),
+                attrs.durationInMillis(),
+                previewUrl,
+                attrs.artwork() != null ? attrs.artwork().url() : null
         );
     }
 
@@ -189,8 +278,8 @@ public class AppleMusicService {
             storefront = "kr";
         }
 
-        // 토큰 생성 및 authorization 헤더 생성
-        String developerToken = appleMusicTokenService.generateDeveloperToken();
+        // 캐시된 토큰으로 authorization 헤더 생성
+        String developerToken = appleMusicTokenService.getDeveloperToken();
         String authorization = "Bearer " + developerToken;
 
         // trackId에서 appleMusicId 추출 및 검증
@@ -199,6 +288,14 @@ public class AppleMusicService {
             throw new DPlayException(ResponseError.INVALID_REQUEST_PARAMETER);
         }
 
+        // 같은 트랙에 대한 동시 조회는 하나의 Apple Music API 호출로 합침
+        String finalStorefront = storefront;
+        return trackFlight.execute(finalStorefront + ":" + appleMusicId,
+                () -> requestTrackData(trackId, appleMusicId, finalStorefront, authorization));
+    }
+
+    private AppleMusicTrackData requestTrackData(String trackId, String appleMusicId, String storefront,
+                                                 String authorization) {
         try {
             // Apple Music API 호출
             AppleMusicTrackDetailResponse response = appleMusicFeignClient.getTrackDetail(
@@ -231,9 +328,12 @@ public class AppleMusicService {
     ) {
     }
 
-    public record MusicPreviewResult(
+    public record MusicTrackMetadataResult(
             String trackId,
-            String streamUrl
+            String albumName,
+            Long durationMs,
+            String previewUrl,
+            String artworkUrl
     ) {
     }
 }
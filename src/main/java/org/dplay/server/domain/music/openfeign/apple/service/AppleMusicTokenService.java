@@ -2,19 +2,38 @@ package org.dplay.server.domain.music.openfeign.apple.service;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Apple Music Developer Token(JWT)을 발급하고 캐시하는 서비스
+ * <p>
+ * .p8 키는 기동 시 한 번만 읽어 파싱하고, 서명된 토큰은 만료 전 갱신 여유 시간(token-refresh-margin)에
+ * 도달할 때까지 재사용합니다. 갱신은 주로 스케줄러가 백그라운드에서 수행하며, 스케줄러가 늦어져 여유 시간 안으로
+ * 들어온 경우에는 락을 먼저 잡은 요청 스레드 하나만 재발급하고 나머지는 기존 토큰을 그대로 사용합니다.
+ * 토큰이 이미 만료된 경우에만 요청 스레드가 락을 기다려 갱신된 토큰을 받습니다.
+ */
 @Slf4j
 @Service
 public class AppleMusicTokenService {
@@ -23,53 +42,176 @@ public class AppleMusicTokenService {
     private final String keyId;
     private final String privateKeyPath;
     private final long tokenExpiration;
+    private final long tokenRefreshMargin;
+    private final Clock clock;
+    private final Counter refreshCounter;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile PrivateKey privateKey;
+    private volatile CachedToken cachedToken;
 
     public AppleMusicTokenService(
             @Value("${apple.music.team-id}") String teamId,
             @Value("${apple.music.key-id}") String keyId,
             @Value("${apple.music.private-key-path}") String privateKeyPath,
-            @Value("${apple.music.token-expiration}") long tokenExpiration
+            @Value("${apple.music.token-expiration}") long tokenExpiration,
+            @Value("${apple.music.token-refresh-margin:600}") long tokenRefreshMargin,
+            Clock clock,
+            MeterRegistry meterRegistry
     ) {
         this.teamId = teamId;
         this.keyId = keyId;
         this.privateKeyPath = privateKeyPath;
         this.tokenExpiration = tokenExpiration;
+        // 갱신 여유 시간이 만료 시간보다 길면 매 요청마다 재발급되므로 만료 시간의 절반으로 제한
+        this.tokenRefreshMargin = Math.min(tokenRefreshMargin, tokenExpiration / 2);
+        this.clock = clock;
+        this.refreshCounter = Counter.builder("apple.music.token.refreshes")
+                .description("Apple Music Developer Token 재발급 횟수")
+                .register(meterRegistry);
+        Gauge.builder("apple.music.token.age", this, AppleMusicTokenService::getTokenAgeSeconds)
+                .description("현재 캐시된 Apple Music Developer Token의 발급 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
     }
 
     /**
-     * Apple Music Developer Token 생성 (JWT)
-     * Apple Music API 인증에 사용되는 토큰입니다.
+     * 기동 시 private key를 파싱하고 첫 토큰을 발급해 둡니다.
+     * 키가 없는 환경에서도 애플리케이션은 기동되며, 실제 호출 시점에 예외가 발생합니다.
      */
-    public String generateDeveloperToken() {
+    @PostConstruct
+    void init() {
         try {
-            String privateKeyContent = readPrivateKeyFile();
-            PrivateKey privateKey = parsePrivateKey(privateKeyContent);
-            Instant now = Instant.now();
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Apple Music Developer Token 초기 발급에 실패했습니다. 첫 호출 시 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * Apple Music Developer Token 조회 (JWT)
+     * Apple Music API 인증에 사용되는 토큰으로, 캐시된 토큰이 유효하면 그대로 반환합니다.
+     */
+    public String getDeveloperToken() {
+        CachedToken current = cachedToken;
+        Instant now = clock.instant();
+        if (current != null && !current.needsRefresh(now, tokenRefreshMargin)) {
+            return current.token();
+        }
+        if (current != null && !current.isExpired(now)) {
+            return refreshAhead(current);
+        }
+
+        refreshLock.lock();
+        try {
+            current = cachedToken;
+            if (current != null && !current.isExpired(clock.instant())) {
+                return current.token();
+            }
+            return refresh().token();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 아직 유효하지만 갱신 여유 시간 안으로 들어온 토큰을 요청 경로에서 미리 재발급합니다.
+     * 락을 얻지 못했거나 재발급에 실패하면 기다리지 않고 기존 토큰을 반환합니다.
+     */
+    private String refreshAhead(CachedToken current) {
+        if (!refreshLock.tryLock()) {
+            return current.token();
+        }
+        try {
+            CachedToken latest = cachedToken;
+            if (latest.needsRefresh(clock.instant(), tokenRefreshMargin)) {
+                return refresh().token();
+            }
+            return latest.token();
+        } catch (RuntimeException e) {
+            log.warn("Apple Music Developer Token 사전 갱신에 실패했습니다. 기존 토큰을 사용합니다.", e);
+            return current.token();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 갱신 여유 시간 안으로 들어온 토큰을 백그라운드에서 미리 재발급합니다.
+     * 다른 스레드가 이미 갱신 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${apple.music.token-refresh-check-interval-ms:60000}")
+    public void refreshIfNeeded() {
+        CachedToken current = cachedToken;
+        if (current != null && !current.needsRefresh(clock.instant(), tokenRefreshMargin)) {
+            return;
+        }
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            current = cachedToken;
+            if (current == null || current.needsRefresh(clock.instant(), tokenRefreshMargin)) {
+                refresh();
+            }
+        } catch (RuntimeException e) {
+            log.error("Apple Music Developer Token 백그라운드 갱신에 실패했습니다.", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private CachedToken refresh() {
+        try {
+            PrivateKey key = privateKey;
+            if (key == null) {
+                key = parsePrivateKey(readPrivateKeyFile());
+                privateKey = key;
+            }
+
+            Instant now = clock.instant();
             Instant expiration = now.plusSeconds(tokenExpiration);
 
-            return Jwts.builder()
+            String token = Jwts.builder()
                     .setHeaderParam("alg", "ES256")
                     .setHeaderParam("kid", keyId)
                     .setIssuer(teamId)
                     .setIssuedAt(Date.from(now))
                     .setExpiration(Date.from(expiration))
-                    .signWith(privateKey, SignatureAlgorithm.ES256)
+                    .signWith(key, SignatureAlgorithm.ES256)
                     .compact();
+
+            CachedToken refreshed = new CachedToken(token, now, expiration);
+            cachedToken = refreshed;
+            refreshCounter.increment();
+            log.debug("Apple Music Developer Token 재발급 (만료: {})", expiration);
+            return refreshed;
         } catch (Exception e) {
             log.error("Failed to generate Apple Music developer token", e);
             throw new RuntimeException("Failed to generate Apple Music developer token", e);
         }
     }
 
+    private double getTokenAgeSeconds() {
+        CachedToken current = cachedToken;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return Duration.between(current.issuedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
     /**
-     * resources 폴더에서 .p8 파일을 읽어옵니다.
+     * private key 파일을 읽어옵니다.
+     * 접두사가 없으면 resources 폴더(classpath)에서, file: 접두사가 있으면 파일 시스템에서 읽습니다.
      */
     private String readPrivateKeyFile() throws IOException {
-        ClassPathResource resource = new ClassPathResource(privateKeyPath);
+        Resource resource = new DefaultResourceLoader().getResource(privateKeyPath);
         if (!resource.exists()) {
             throw new IOException("Private key file not found: " + privateKeyPath);
         }
-        return new String(resource.getInputStream().readAllBytes());
+        try (InputStream inputStream = resource.getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
     }
 
     private PrivateKey parsePrivateKey(String privateKeyContent) throws Exception {
@@ -84,4 +226,15 @@ public class AppleMusicTokenService {
         KeyFactory keyFactory = KeyFactory.getInstance("EC");
         return keyFactory.generatePrivate(keySpec);
     }
+
+    private record CachedToken(String token, Instant issuedAt, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        boolean needsRefresh(Instant now, long refreshMarginSeconds) {
+            return !now.isBefore(expiresAt.minusSeconds(refreshMarginSeconds));
+        }
+    }
 }
@@ -0,0 +1,193 @@
+package org.dplay.server.domain.music.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.domain.music.openfeign.apple.service.AppleMusicService.MusicSearchResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Apple Music 검색 결과를 로컬(Caffeine)과 Redis 두 단계로 캐시하는 저장소
+ * <p>
+ * 키 구조: {@code music:search:{storefront}:{limit}:{offset}:{정규화된 검색어}}
+ * <ul>
+ *     <li>검색어는 NFKC 정규화, 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환 후 키로 사용합니다.</li>
+ *     <li>빈 결과는 negative-ttl 동안만 캐시합니다.</li>
+ *     <li>storefront 별 TTL 은 {@code music.search-cache.storefront-ttls} (예: {@code kr:PT12H,us:PT6H}) 로 지정합니다.</li>
+ * </ul>
+ * Redis 장애 시에는 예외를 삼키고 로컬 캐시와 Apple Music API 호출로 대체합니다.
+ */
+@Slf4j
+@Repository
+public class MusicSearchCacheRepository {
+
+    private static final String KEY_PREFIX = "music:search:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration defaultTtl;
+    private final Duration negativeTtl;
+    private final Duration localTtl;
+    private final Map<String, Duration> storefrontTtls;
+    private final Cache<String, CachedSearch> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public MusicSearchCacheRepository(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${music.search-cache.ttl:PT6H}") Duration defaultTtl,
+            @Value("${music.search-cache.negative-ttl:PT5M}") Duration negativeTtl,
+            @Value("${music.search-cache.storefront-ttls:}") String storefrontTtls,
+            @Value("${music.search-cache.local.ttl:PT10M}") Duration localTtl,
+            @Value("${music.search-cache.local.maximum-size:10000}") long localMaximumSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.defaultTtl = defaultTtl;
+        this.negativeTtl = negativeTtl;
+        this.localTtl = localTtl;
+        this.storefrontTtls = parseStorefrontTtls(storefrontTtls);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfter(new CachedSearchExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "musicSearch");
+        this.redisHitCounter = Counter.builder("music.search.cache.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("music.search.cache.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검색 결과를 조회합니다. 로컬 캐시에 없으면 Redis 를 조회하고, Redis 에서 찾은 결과는 로컬 캐시에 채웁니다.
+     *
+     * @return 캐시에 없거나 Redis 조회에 실패하면 Optional.empty()
+     */
+    public Optional<MusicSearchResult> find(String query, String storefront, int limit, Integer offset) {
+        String key = keyOf(query, storefront, limit, offset);
+
+        CachedSearch local = localCache.getIfPresent(key);
+        if (local != null) {
+            return Optional.of(local.result());
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                redisMissCounter.increment();
+                return Optional.empty();
+            }
+            redisHitCounter.increment();
+            MusicSearchResult result = objectMapper.readValue(json, MusicSearchResult.class);
+            localCache.put(key, new CachedSearch(result, ttlOf(storefront, result)));
+            return Optional.of(result);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("음악 검색 캐시 조회 실패 (key: {})", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검색 결과를 두 단계 캐시에 저장합니다. 빈 결과는 negative-ttl 로 짧게 저장합니다.
+     */
+    public void save(String query, String storefront, int limit, Integer offset, MusicSearchResult result) {
+        String key = keyOf(query, storefront, limit, offset);
+        Duration ttl = ttlOf(storefront, result);
+
+        localCache.put(key, new CachedSearch(result, ttl));
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("음악 검색 캐시 저장 실패 (key: {})", key, e);
+        }
+    }
+
+    /**
+     * 캐시 키에 사용할 검색어를 정규화합니다.
+     */
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Normalizer.normalize(query, Normalizer.Form.NFKC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색 조건에 해당하는 캐시 키를 반환합니다. 정규화 후 같은 검색어는 같은 키를 가집니다.
+     */
+    public String keyOf(String query, String storefront, int limit, Integer offset) {
+        return KEY_PREFIX + storefront.toLowerCase(Locale.ROOT) + ":" + limit + ":" + (offset != null ? offset : 0)
+                + ":" + normalize(query);
+    }
+
+    private Duration ttlOf(String storefront, MusicSearchResult result) {
+        if (result.items() == null || result.items().isEmpty()) {
+            return negativeTtl;
+        }
+        return storefrontTtls.getOrDefault(storefront.toLowerCase(Locale.ROOT), defaultTtl);
+    }
+
+    private static Map<String, Duration> parseStorefrontTtls(String value) {
+        Map<String, Duration> ttls = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return ttls;
+        }
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 music.search-cache.storefront-ttls 형식: " + entry);
+            }
+            ttls.put(pair[0].strip().toLowerCase(Locale.ROOT), Duration.parse(pair[1].strip()));
+        }
+        return ttls;
+    }
+
+    private record CachedSearch(MusicSearchResult result, Duration ttl) {
+    }
+
+    /**
+     * 항목별 TTL 을 따르되, 로컬 캐시는 local.ttl 을 넘지 않도록 제한합니다.
+     */
+    private class CachedSearchExpiry implements Expiry<String, CachedSearch> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedSearch value, long currentTime) {
+            Duration ttl = value.ttl().compareTo(localTtl) < 0 ? value.ttl() : localTtl;
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedSearch value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedSearch value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package org.dplay.server.domain.post.dto;
 
-import org.dplay.server.domain.post.entity.Post;
-
 public record PostFeedItemDto(
-        Post post,
+        PostSummaryDto post,
         boolean isEditorPick,
         boolean isPopular,
         boolean isNew,
@@ -0,0 +1,59 @@
+package org.dplay.server.domain.post.dto;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 피드 한 페이지에 대한 사용자의 좋아요/스크랩 여부
+ * <p>
+ * 페이지 내 게시글 순서(index)를 비트 위치로 사용하므로, 조회 결과를 Long 집합으로 박싱하지 않고 보관합니다.
+ * postId → index 변환은 정렬된 postId 배열의 이진 탐색으로 처리합니다. (페이지 내 postId 는 중복되지 않아야 합니다)
+ */
+public final class PostRelationFlags {
+
+    private final long[] sortedPostIds;
+    private final int[] indexBySortedPosition;
+    private final BitSet liked;
+    private final BitSet scrapped;
+
+    private PostRelationFlags(long[] postIds) {
+        this.sortedPostIds = postIds.clone();
+        Arrays.sort(sortedPostIds);
+        this.indexBySortedPosition = new int[postIds.length];
+        for (int index = 0; index < postIds.length; index++) {
+            indexBySortedPosition[Arrays.binarySearch(sortedPostIds, postIds[index])] = index;
+        }
+        this.liked = new BitSet(postIds.length);
+        this.scrapped = new BitSet(postIds.length);
+    }
+
+    /**
+     * @param postIds 페이지에 노출되는 순서대로 나열한 postId
+     */
+    public static PostRelationFlags of(long[] postIds) {
+        return new PostRelationFlags(postIds);
+    }
+
+    public void markLiked(long postId) {
+        mark(liked, postId);
+    }
+
+    public void markScrapped(long postId) {
+        mark(scrapped, postId);
+    }
+
+    public boolean isLiked(int index) {
+        return liked.get(index);
+    }
+
+    public boolean isScrapped(int index) {
+        return scrapped.get(index);
+    }
+
+    private void mark(BitSet flags, long postId) {
+        int position = Arrays.binarySearch(sortedPostIds, postId);
+        if (position >= 0) {
+            flags.set(indexBySortedPosition[position]);
+        }
+    }
+}
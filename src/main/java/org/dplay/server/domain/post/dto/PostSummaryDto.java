@@ -0,0 +1,71 @@
+package org.dplay.server.domain.post.dto;
+
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.track.dto.TrackDetailResultDto;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.user.dto.UserDetailResultDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 응답과 피드 스냅샷에서 사용하는 게시글 요약 정보
+ * (엔티티 연관관계를 끊어 Redis 직렬화가 가능하도록 한다)
+ */
+public record PostSummaryDto(
+        Long postId,
+        String content,
+        int likeCount,
+        LocalDateTime createdAt,
+        UserDetailResultDto user,
+        TrackDetailResultDto track
+) {
+    /**
+     * 피드 조회 JPQL 생성자 표현식(SELECT new ...)용 생성자.
+     * 피드에 노출하는 컬럼만 조회하므로 Post/User/Track 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    public PostSummaryDto(
+            Long postId,
+            String content,
+            int likeCount,
+            LocalDateTime createdAt,
+            Long userId,
+            String nickname,
+            String profileImg,
+            String trackId,
+            String songTitle,
+            String artistName,
+            String coverImg,
+            String isrc
+    ) {
+        this(
+                postId,
+                content,
+                likeCount,
+                createdAt,
+                new UserDetailResultDto(userId, nickname, profileImg),
+                TrackDetailResultDto.of(trackId, songTitle, artistName, coverImg, isrc)
+        );
+    }
+
+    public static PostSummaryDto from(Post post) {
+        Track track = post.getTrack();
+        return new PostSummaryDto(
+                post.getPostId(),
+                post.getContent(),
+                post.getLikeCount(),
+                post.getCreatedAt(),
+                UserDetailResultDto.from(post.getUser()),
+                TrackDetailResultDto.of(
+                        track.getTrackId(),
+                        track.getSongTitle(),
+                        track.getArtistName(),
+                        track.getCoverImg(),
+                        track.getIsrc()
+                )
+        );
+    }
+
+    public PostSummaryDto withLikeCount(int likeCount) {
+        return new PostSummaryDto(postId, content, likeCount, createdAt, user, track);
+    }
+}
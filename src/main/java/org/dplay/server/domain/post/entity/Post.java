@@ -18,9 +18,11 @@ import org.hibernate.annotations.OnDeleteAction;
 @Table(
         name = "post",
         indexes = {
-                @Index(name = "idx_post_user", columnList = "user_id"),
+                @Index(name = "idx_post_user_post", columnList = "user_id, post_id"),
                 @Index(name = "idx_post_track", columnList = "track_id"),
-                @Index(name = "idx_post_user_question", columnList = "user_id,question_id")
+                @Index(name = "idx_post_user_question", columnList = "user_id,question_id"),
+                @Index(name = "idx_post_question_like_count", columnList = "question_id, like_count DESC, post_id"),
+                @Index(name = "idx_post_question_created_at", columnList = "question_id, created_at DESC, post_id DESC")
         }
 )
 public class Post extends BaseTimeEntity {
@@ -67,38 +69,4 @@ public class Post extends BaseTimeEntity {
         this.likeCount = likeCount;
         this.saveCount = saveCount;
     }
-
-    /**
-     * 좋아요 개수를 증가시킵니다.
-     */
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    /**
-     * 좋아요 개수를 감소시킵니다.
-     * likeCount가 0보다 작아지지 않도록 보장합니다.
-     */
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
-    /**
-     * 스크랩 개수를 증가시킵니다.
-     */
-    public void incrementSaveCount() {
-        this.saveCount++;
-    }
-
-    /**
-     * 스크랩 개수를 감소시킵니다.
-     * saveCount가 0보다 작아지지 않도록 보장합니다.
-     */
-    public void decrementSaveCount() {
-        if (this.saveCount > 0) {
-            this.saveCount--;
-        }
-    }
 }
@@ -20,7 +20,7 @@ import org.hibernate.annotations.OnDeleteAction;
         },
         indexes = {
                 @Index(name = "idx_post_like_post", columnList = "post_id"),
-                @Index(name = "idx_post_like_user", columnList = "user_id")
+                @Index(name = "idx_post_like_user_post", columnList = "user_id, post_id")
         }
 )
 public class PostLike extends BaseTimeEntity {
@@ -20,7 +20,7 @@ import org.hibernate.annotations.OnDeleteAction;
         },
         indexes = {
                 @Index(name = "idx_post_save_post", columnList = "post_id"),
-                @Index(name = "idx_post_save_user", columnList = "user_id")
+                @Index(name = "idx_post_save_user_post", columnList = "user_id, post_id")
         }
 )
 public class PostSave extends BaseTimeEntity {
@@ -1,28 +1,30 @@
 package org.dplay.server.domain.post.repository;
 
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.entity.Post;
 
 import java.util.List;
 
 public interface PostFeedQueryRepository {
 
-    List<Post> findFeedPosts(
+    List<PostSummaryDto> findFeedPosts(
             Long questionId,
             Long cursorLikeCount,
             Long cursorPostId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     );
 
-    List<Post> findLatestPosts(
+    List<PostSummaryDto> findLatestPosts(
             Long questionId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     );
 
-    List<Post> findAllFeedPosts(
+    List<PostSummaryDto> findAllFeedPosts(
             Long questionId,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     );
 
     List<Post> findPostsByUserDesc(
@@ -36,4 +38,9 @@ public interface PostFeedQueryRepository {
             Long cursorPostId,
             int limit
     );
+
+    PostRelationFlags findRelationFlags(
+            Long userId,
+            long[] postIds
+    );
 }
@@ -3,33 +3,66 @@ package org.dplay.server.domain.post.repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.entity.Post;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.CollectionUtils;
 
 import java.util.List;
 
 @Repository
 public class PostFeedQueryRepositoryImpl implements PostFeedQueryRepository {
 
+    /**
+     * 피드에 노출하는 컬럼만 PostSummaryDto 로 조회하는 생성자 표현식.
+     * 엔티티를 로딩하지 않으므로 영속성 컨텍스트 적재와 변경 감지 비용이 들지 않습니다.
+     */
+    private static final String SELECT_POST_SUMMARY =
+            "SELECT new org.dplay.server.domain.post.dto.PostSummaryDto("
+                    + "p.postId, p.content, p.likeCount, p.createdAt, "
+                    + "u.userId, u.nickname, u.profileImg, "
+                    + "t.trackId, t.songTitle, t.artistName, t.coverImg, t.isrc) "
+                    + "FROM Post p "
+                    + "JOIN p.user u "
+                    + "JOIN p.track t ";
+
+    /**
+     * 에디터픽으로 선정된 게시글을 제외하는 anti-join.
+     * 제외할 postId 를 IN 목록으로 바인딩하지 않으므로 쿼리 문자열이 고정되어 쿼리 플랜 캐시를 재사용할 수 있습니다.
+     */
+    private static final String EXCLUDE_EDITOR_PICKS =
+            "AND NOT EXISTS (SELECT 1 FROM QuestionEditorPick qep WHERE qep.post = p) ";
+
+    private static final int RELATION_TYPE_LIKE = 1;
+    private static final int RELATION_TYPE_SAVE = 2;
+    /**
+     * 페이지의 postId 를 IN 목록 대신 [min, max] 범위로 바인딩합니다.
+     * 파라미터 수가 고정되어 statement 캐시를 재사용할 수 있고, (user_id, post_id) 인덱스의 범위 탐색으로 처리됩니다.
+     * 범위 안의 다른 게시글도 함께 읽히지만 한 사용자의 좋아요/스크랩 수만큼으로 제한되며, 페이지 밖의 postId 는 무시합니다.
+     */
+    private static final String RELATION_QUERY =
+            "SELECT pl.post_id, " + RELATION_TYPE_LIKE + " FROM post_like pl " +
+                    "WHERE pl.user_id = :userId AND pl.post_id BETWEEN :minPostId AND :maxPostId " +
+                    "UNION ALL " +
+                    "SELECT ps.post_id, " + RELATION_TYPE_SAVE + " FROM post_save ps " +
+                    "WHERE ps.user_id = :userId AND ps.post_id BETWEEN :minPostId AND :maxPostId";
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
-    public List<Post> findFeedPosts(
+    public List<PostSummaryDto> findFeedPosts(
             Long questionId,
             Long cursorLikeCount,
             Long cursorPostId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     ) {
-        StringBuilder jpql = new StringBuilder("SELECT p FROM Post p ");
-        jpql.append("JOIN FETCH p.user u ");
-        jpql.append("JOIN FETCH p.track t ");
+        StringBuilder jpql = new StringBuilder(SELECT_POST_SUMMARY);
         jpql.append("WHERE p.question.questionId = :questionId ");
 
-        if (!CollectionUtils.isEmpty(excludePostIds)) {
-            jpql.append("AND p.postId NOT IN :excludeIds ");
+        if (excludeEditorPicks) {
+            jpql.append(EXCLUDE_EDITOR_PICKS);
         }
 
         if (cursorLikeCount != null && cursorPostId != null) {
@@ -39,25 +72,21 @@ public class PostFeedQueryRepositoryImpl implements PostFeedQueryRepository {
 
         jpql.append("ORDER BY p.likeCount DESC, p.postId ASC");
 
-        TypedQuery<Post> query = entityManager.createQuery(jpql.toString(), Post.class)
+        TypedQuery<PostSummaryDto> query = entityManager.createQuery(jpql.toString(), PostSummaryDto.class)
                 .setParameter("questionId", questionId)
                 .setMaxResults(limit);
 
-        if (!CollectionUtils.isEmpty(excludePostIds)) {
-            query.setParameter("excludeIds", excludePostIds);
-        }
-
         if (cursorLikeCount != null && cursorPostId != null) {
             query.setParameter("cursorLikeCount", cursorLikeCount);
             query.setParameter("cursorPostId", cursorPostId);
         }
 
-        List<Post> result = query.getResultList();
+        List<PostSummaryDto> result = query.getResultList();
 
         // 커서가 있고 결과가 있으면, 첫 번째 항목(커서와 같은 likeCount와 postId)을 제거
         if (cursorLikeCount != null && cursorPostId != null && !result.isEmpty()) {
-            Post first = result.get(0);
-            if (first.getLikeCount() == cursorLikeCount && first.getPostId().equals(cursorPostId)) {
+            PostSummaryDto first = result.get(0);
+            if (first.likeCount() == cursorLikeCount && first.postId().equals(cursorPostId)) {
                 result = result.subList(1, result.size());
             }
         }
@@ -66,53 +95,41 @@ public class PostFeedQueryRepositoryImpl implements PostFeedQueryRepository {
     }
 
     @Override
-    public List<Post> findLatestPosts(
+    public List<PostSummaryDto> findLatestPosts(
             Long questionId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     ) {
-        StringBuilder jpql = new StringBuilder("SELECT p FROM Post p ");
-        jpql.append("JOIN FETCH p.user u ");
-        jpql.append("JOIN FETCH p.track t ");
+        StringBuilder jpql = new StringBuilder(SELECT_POST_SUMMARY);
         jpql.append("WHERE p.question.questionId = :questionId ");
 
-        if (!CollectionUtils.isEmpty(excludePostIds)) {
-            jpql.append("AND p.postId NOT IN :excludeIds ");
+        if (excludeEditorPicks) {
+            jpql.append(EXCLUDE_EDITOR_PICKS);
         }
 
         jpql.append("ORDER BY p.createdAt DESC, p.postId DESC");
 
-        TypedQuery<Post> query = entityManager.createQuery(jpql.toString(), Post.class)
+        TypedQuery<PostSummaryDto> query = entityManager.createQuery(jpql.toString(), PostSummaryDto.class)
                 .setParameter("questionId", questionId)
                 .setMaxResults(limit);
 
-        if (!CollectionUtils.isEmpty(excludePostIds)) {
-            query.setParameter("excludeIds", excludePostIds);
-        }
-
         return query.getResultList();
     }
 
     @Override
-    public List<Post> findAllFeedPosts(Long questionId, List<Long> excludePostIds) {
-        StringBuilder jpql = new StringBuilder("SELECT p FROM Post p ");
-        jpql.append("JOIN FETCH p.user u ");
-        jpql.append("JOIN FETCH p.track t ");
+    public List<PostSummaryDto> findAllFeedPosts(Long questionId, boolean excludeEditorPicks) {
+        StringBuilder jpql = new StringBuilder(SELECT_POST_SUMMARY);
         jpql.append("WHERE p.question.questionId = :questionId ");
 
-        if (!CollectionUtils.isEmpty(excludePostIds)) {
-            jpql.append("AND p.postId NOT IN :excludeIds ");
+        if (excludeEditorPicks) {
+            jpql.append(EXCLUDE_EDITOR_PICKS);
         }
 
         jpql.append("ORDER BY p.likeCount DESC, p.postId ASC");
 
-        TypedQuery<Post> query = entityManager.createQuery(jpql.toString(), Post.class)
+        TypedQuery<PostSummaryDto> query = entityManager.createQuery(jpql.toString(), PostSummaryDto.class)
                 .setParameter("questionId", questionId);
 
-        if (!CollectionUtils.isEmpty(excludePostIds)) {
-            query.setParameter("excludeIds", excludePostIds);
-        }
-
         return query.getResultList();
     }
 
@@ -171,4 +188,41 @@ public class PostFeedQueryRepositoryImpl implements PostFeedQueryRepository {
 
         return query.getResultList();
     }
+
+    /**
+     * 사용자의 좋아요/스크랩 여부를 UNION ALL 한 번으로 조회합니다.
+     * 게시글 수와 관계없이 postId 범위 두 값만 바인딩하므로 IN 목록을 만들거나 박싱하지 않습니다.
+     */
+    @Override
+    public PostRelationFlags findRelationFlags(Long userId, long[] postIds) {
+        PostRelationFlags flags = PostRelationFlags.of(postIds);
+        if (postIds.length == 0) {
+            return flags;
+        }
+
+        long minPostId = Long.MAX_VALUE;
+        long maxPostId = Long.MIN_VALUE;
+        for (long postId : postIds) {
+            minPostId = Math.min(minPostId, postId);
+            maxPostId = Math.max(maxPostId, postId);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(RELATION_QUERY)
+                .setParameter("userId", userId)
+                .setParameter("minPostId", minPostId)
+                .setParameter("maxPostId", maxPostId)
+                .getResultList();
+
+        for (Object[] row : rows) {
+            long postId = ((Number) row[0]).longValue();
+            if (((Number) row[1]).intValue() == RELATION_TYPE_LIKE) {
+                flags.markLiked(postId);
+            } else {
+                flags.markScrapped(postId);
+            }
+        }
+
+        return flags;
+    }
 }
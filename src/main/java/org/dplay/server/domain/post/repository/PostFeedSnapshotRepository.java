@@ -0,0 +1,250 @@
+package org.dplay.server.domain.post.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 질문별 추천글 피드 스냅샷을 Redis Hash 하나에 보관하는 저장소
+ * <p>
+ * 키 구조: {@code feed:snapshot:{questionId}}
+ * <ul>
+ *     <li>{@code post:{postId}} - 게시글 요약 정보(JSON)</li>
+ *     <li>{@code like:{postId}} - 좋아요 수 (HINCRBY 로 증감)</li>
+ *     <li>{@code meta:builtAt} - 스냅샷 생성 시각</li>
+ * </ul>
+ * 증분 갱신은 스냅샷이 이미 존재할 때만 반영하며, 스냅샷이 없으면 다음 조회 시 DB 에서 다시 생성된다.
+ * Redis 장애 시에는 예외를 삼키고 DB 조회로 대체되도록 빈 결과를 반환한다.
+ */
+@Slf4j
+@Repository
+public class PostFeedSnapshotRepository {
+
+    private static final String KEY_PREFIX = "feed:snapshot:{";
+    private static final String KEY_SUFFIX = "}";
+    private static final String BUILDING_KEY_SUFFIX = ":building:";
+    private static final String POST_FIELD_PREFIX = "post:";
+    private static final String LIKE_FIELD_PREFIX = "like:";
+    private static final String BUILT_AT_FIELD = "meta:builtAt";
+
+    /**
+     * 스냅샷이 존재할 때만 게시글을 추가한다.
+     */
+    private static final RedisScript<Long> PUT_POST_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4]) "
+                    + "return 1 "
+                    + "end "
+                    + "return 0",
+            Long.class
+    );
+
+    /**
+     * 스냅샷에 해당 게시글이 존재할 때만 좋아요 수를 증감한다.
+     */
+    private static final RedisScript<Long> INCREMENT_LIKE_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then "
+                    + "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "end "
+                    + "return -1",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration snapshotTtl;
+
+    public PostFeedSnapshotRepository(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${feed.snapshot.ttl:PT10M}") Duration snapshotTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.snapshotTtl = snapshotTtl;
+    }
+
+    /**
+     * 질문의 피드 스냅샷을 조회합니다.
+     *
+     * @param questionId 질문 ID
+     * @return 스냅샷이 없거나 Redis 조회에 실패하면 Optional.empty()
+     */
+    public Optional<List<PostSummaryDto>> findByQuestionId(Long questionId) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(questionId));
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(toPosts(entries));
+        } catch (DataAccessException | JsonProcessingException | IllegalArgumentException e) {
+            log.warn("피드 스냅샷 조회 실패 (questionId: {})", questionId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 에서 읽은 게시글로 스냅샷을 생성합니다.
+     * 임시 키에 먼저 기록한 뒤 RENAMENX 로 교체하므로, 동시에 여러 요청이 생성하더라도 먼저 완성된 스냅샷만 반영됩니다.
+     *
+     * @param questionId 질문 ID
+     * @param posts      질문에 등록된 전체 게시글
+     */
+    public void saveAll(Long questionId, List<PostSummaryDto> posts) {
+        String key = key(questionId);
+        String buildingKey = key + BUILDING_KEY_SUFFIX + UUID.randomUUID();
+        try {
+            Map<String, String> fields = new HashMap<>();
+            fields.put(BUILT_AT_FIELD, Instant.now().toString());
+            for (PostSummaryDto post : posts) {
+                fields.put(postField(post.postId()), objectMapper.writeValueAsString(post));
+                fields.put(likeField(post.postId()), String.valueOf(post.likeCount()));
+            }
+
+            redisTemplate.opsForHash().putAll(buildingKey, fields);
+            redisTemplate.expire(buildingKey, snapshotTtl);
+            Boolean renamed = redisTemplate.renameIfAbsent(buildingKey, key);
+            if (!Boolean.TRUE.equals(renamed)) {
+                redisTemplate.delete(buildingKey);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("피드 스냅샷 생성 실패 (questionId: {})", questionId, e);
+            deleteQuietly(buildingKey);
+        }
+    }
+
+    /**
+     * 새로 등록된 게시글을 스냅샷에 추가합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void addPost(Long questionId, PostSummaryDto post) {
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.execute(
+                        PUT_POST_IF_PRESENT,
+                        List.of(key(questionId)),
+                        postField(post.postId()),
+                        objectMapper.writeValueAsString(post),
+                        likeField(post.postId()),
+                        String.valueOf(post.likeCount())
+                );
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.warn("피드 스냅샷 게시글 추가 실패, 스냅샷을 폐기합니다 (questionId: {}, postId: {})",
+                        questionId, post.postId(), e);
+                evict(questionId);
+            }
+        });
+    }
+
+    /**
+     * 삭제된 게시글을 스냅샷에서 제거합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void removePost(Long questionId, Long postId) {
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.opsForHash().delete(key(questionId), postField(postId), likeField(postId));
+            } catch (DataAccessException e) {
+                log.warn("피드 스냅샷 게시글 제거 실패 (questionId: {}, postId: {})", questionId, postId, e);
+            }
+        });
+    }
+
+    /**
+     * 스냅샷의 좋아요 수를 증감합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void incrementLikeCount(Long questionId, Long postId, long delta) {
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.execute(
+                        INCREMENT_LIKE_IF_PRESENT,
+                        List.of(key(questionId)),
+                        likeField(postId),
+                        String.valueOf(delta)
+                );
+            } catch (DataAccessException e) {
+                log.warn("피드 스냅샷 좋아요 수 반영 실패, 스냅샷을 폐기합니다 (questionId: {}, postId: {})",
+                        questionId, postId, e);
+                evict(questionId);
+            }
+        });
+    }
+
+    /**
+     * 질문들의 스냅샷을 폐기합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void evictAll(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> questionIds.forEach(this::evict));
+    }
+
+    private void evict(Long questionId) {
+        deleteQuietly(key(questionId));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("피드 스냅샷 키 삭제 실패 (key: {})", key, e);
+        }
+    }
+
+    private List<PostSummaryDto> toPosts(Map<Object, Object> entries) throws JsonProcessingException {
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        List<PostSummaryDto> posts = new ArrayList<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = (String) entry.getKey();
+            String value = (String) entry.getValue();
+            if (field.startsWith(LIKE_FIELD_PREFIX)) {
+                likeCounts.put(Long.parseLong(field.substring(LIKE_FIELD_PREFIX.length())), Integer.parseInt(value));
+            } else if (field.startsWith(POST_FIELD_PREFIX)) {
+                posts.add(objectMapper.readValue(value, PostSummaryDto.class));
+            }
+        }
+
+        return posts.stream()
+                .map(post -> post.withLikeCount(Math.max(0, likeCounts.getOrDefault(post.postId(), post.likeCount()))))
+                .sorted(Comparator.comparing(PostSummaryDto::postId))
+                .toList();
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String key(Long questionId) {
+        return KEY_PREFIX + questionId + KEY_SUFFIX;
+    }
+
+    private String postField(Long postId) {
+        return POST_FIELD_PREFIX + postId;
+    }
+
+    private String likeField(Long postId) {
+        return LIKE_FIELD_PREFIX + postId;
+    }
+}
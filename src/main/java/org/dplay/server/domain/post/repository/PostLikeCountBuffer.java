@@ -0,0 +1,199 @@
+package org.dplay.server.domain.post.repository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 좋아요 수 증감분을 메모리에 모아 두었다가 한 번의 배치 UPDATE 로 반영하는 쓰기 지연 버퍼
+ * <p>
+ * 좋아요마다 post 행을 갱신하면 인기 글의 행 잠금에 요청이 몰리므로,
+ * 증감분은 트랜잭션 커밋 이후 버퍼에 누적하고 주기적으로(또는 일정 건수마다) 반영한다.
+ * 아직 반영되지 않은 증감분은 {@link #getPendingDelta(Long)} 로 조회해 응답에 덧씌운다.
+ * <p>
+ * 증감분은 ConcurrentHashMap 의 merge 로만 다루므로 버킷 단위로 잠긴다.
+ * 반영 시에는 읽어 둔 값을 DB 에 쓰고 커밋된 뒤에 그만큼만 빼므로, 반영 중에 들어온 증감분이나
+ * 반영에 실패한 증감분은 버퍼에 그대로 남는다.
+ * <p>
+ * 버퍼는 인스턴스(JVM)마다 따로 있으며 DB 반영 전까지는 메모리에만 있다.
+ * 정상 종료 시에는 {@link #drain()} 이 남은 증감분을 반영하지만, SIGKILL·OOM 등으로 강제 종료되면
+ * 호출되지 않으므로 최대 한 번의 반영 주기(flush-interval-ms) 또는 임계치만큼의 좋아요 수가 유실될 수 있다.
+ * 이 경우 post_like 행은 남아 있으므로 like_count 는 post_like 집계로 다시 맞출 수 있다.
+ */
+@Slf4j
+@Repository
+public class PostLikeCountBuffer {
+
+    private static final String UPDATE_LIKE_COUNT_SQL =
+            "UPDATE post SET like_count = CASE WHEN like_count + ? < 0 THEN 0 ELSE like_count + ? END "
+                    + "WHERE post_id = ?";
+
+    private final ConcurrentHashMap<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final long flushThreshold;
+
+    public PostLikeCountBuffer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            @Value("${post.like-count-buffer.flush-threshold:500}") long flushThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 커밋 이후 콜백에서 호출될 수 있으므로 항상 새 트랜잭션으로 반영한다
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushThreshold = flushThreshold;
+    }
+
+    /**
+     * 좋아요 수 증감분을 버퍼에 누적합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 경우에만 반영됩니다.
+     *
+     * @param postId 게시글 ID
+     * @param delta  증감량
+     */
+    public void increment(Long postId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accumulate(postId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accumulate(postId, delta);
+            }
+        });
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 수 증감분을 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 반영 대기 중인 증감분 (없으면 0)
+     */
+    public long getPendingDelta(Long postId) {
+        Long delta = pendingDeltas.get(postId);
+        return delta != null ? delta : 0L;
+    }
+
+    /**
+     * 반영이 끼어들지 않도록 반영 잠금을 잡은 채 읽습니다.
+     * DB 의 좋아요 수와 {@link #getPendingDelta(Long)} 를 함께 읽을 때 사용하면,
+     * 그사이 반영이 커밋되어 같은 증감분이 DB 값과 대기 증감분에 두 번 포함되는 일이 없습니다.
+     *
+     * @param reader DB 와 대기 증감분을 읽는 작업
+     * @return reader 의 결과
+     */
+    public <T> T readWithoutFlush(Supplier<T> reader) {
+        flushLock.lock();
+        try {
+            return reader.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 누적된 증감분을 한 번의 배치 UPDATE 로 반영합니다.
+     * 이미 다른 스레드가 반영 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${post.like-count-buffer.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        flushRequested.set(false);
+        try {
+            flushPendingDeltas();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 진행 중인 반영을 기다린 뒤 남은 증감분을 모두 반영합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        flushLock.lock();
+        try {
+            flushPendingDeltas();
+            if (!pendingDeltas.isEmpty()) {
+                log.error("종료 시 좋아요 수 증감분 반영 실패 (남은 게시글 수: {})", pendingDeltas.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void accumulate(Long postId, long delta) {
+        pendingDeltas.merge(postId, delta, Long::sum);
+        if (pendingEvents.incrementAndGet() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            // 커밋 이후 콜백(요청 스레드)에서 DB 를 쓰지 않도록 스케줄러 스레드에서 반영합니다.
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    private void flushPendingDeltas() {
+        pendingEvents.set(0);
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        pendingDeltas.forEach((postId, delta) -> {
+            if (delta != 0L) {
+                batchArgs.add(new Object[]{delta, delta, postId});
+            } else {
+                pendingDeltas.remove(postId, 0L);
+            }
+        });
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_LIKE_COUNT_SQL, batchArgs));
+        } catch (DataAccessException | TransactionException e) {
+            // 증감분은 버퍼에 남아 있으므로 다음 반영 때 다시 시도한다
+            log.error("좋아요 수 증감분 반영 실패 (게시글 수: {})", batchArgs.size(), e);
+            return;
+        }
+
+        // 커밋된 만큼만 빼고, 그사이 들어온 증감분이 없어 0 이 된 게시글은 버퍼에서 지운다
+        for (Object[] args : batchArgs) {
+            long flushedDelta = (Long) args[0];
+            pendingDeltas.merge((Long) args[2], -flushedDelta, PostLikeCountBuffer::sumOrRemove);
+        }
+        log.debug("좋아요 수 증감분 반영 완료 (게시글 수: {})", batchArgs.size());
+    }
+
+    private static Long sumOrRemove(Long pending, Long flushed) {
+        long remaining = pending + flushed;
+        return remaining != 0L ? remaining : null;
+    }
+}
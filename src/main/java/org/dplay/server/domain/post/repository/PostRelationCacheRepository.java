@@ -0,0 +1,286 @@
+package org.dplay.server.domain.post.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * 사용자별 좋아요/스크랩한 postId 집합을 Redis Set 으로 보관하는 저장소
+ * <p>
+ * 키 구조: {@code post:relation:{userId}:like}, {@code post:relation:{userId}:save}
+ * <p>
+ * 좋아요/스크랩이 하나도 없는 사용자도 캐시된 상태를 표현할 수 있도록 Set 에는 항상 {@link #SENTINEL} 멤버가 들어 있습니다.
+ * 증분 갱신은 Set 이 이미 존재할 때만 반영하며, Set 이 없으면 다음 조회 시 DB 에서 다시 생성됩니다.
+ * <p>
+ * 증분 갱신/폐기마다 세대 카운터({@code post:relation:{userId}:like:gen})를 올리고, Set 생성은 DB 조회 전에 읽은 세대가
+ * 그대로일 때만 반영합니다. DB 조회와 반영 사이에 커밋된 좋아요/스크랩이 빠진 Set 이 게시되지 않도록 하기 위함입니다.
+ */
+@Slf4j
+@Repository
+public class PostRelationCacheRepository {
+
+    private static final String KEY_PREFIX = "post:relation:{";
+    private static final String KEY_SUFFIX = "}:";
+    private static final String BUILDING_KEY_SUFFIX = ":building:";
+    private static final String GENERATION_KEY_SUFFIX = ":gen";
+    private static final String SENTINEL = "-";
+
+    /**
+     * 세대를 알 수 없을 때(Redis 조회 실패) 반환하는 값, 이 세대로는 Set 을 반영하지 않는다.
+     */
+    public static final long UNKNOWN_GENERATION = -1L;
+
+    /**
+     * 세대를 올리고, Set 이 존재할 때만 멤버를 추가한다.
+     */
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "if redis.call('EXISTS', KEYS[1]) == 1 then "
+                    + "return redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "end "
+                    + "return -1",
+            Long.class
+    );
+
+    /**
+     * 세대를 올리고 멤버를 제거한다.
+     */
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "return redis.call('SREM', KEYS[1], ARGV[1])",
+            Long.class
+    );
+
+    /**
+     * 세대를 올리고 Set 을 삭제한다.
+     */
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+                    + "return redis.call('DEL', KEYS[1])",
+            Long.class
+    );
+
+    /**
+     * 세대가 DB 조회 전에 읽은 값과 같고 Set 이 아직 없을 때만 임시 키를 Set 으로 교체한다. (아니면 임시 키 삭제)
+     * KEYS: 임시 키, Set 키, 세대 키 / ARGV: 기대 세대
+     */
+    private static final RedisScript<Long> PUBLISH_IF_GENERATION = new DefaultRedisScript<>(
+            "local generation = redis.call('GET', KEYS[3]) or '0' "
+                    + "if generation ~= ARGV[1] or redis.call('EXISTS', KEYS[2]) == 1 then "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return 0 "
+                    + "end "
+                    + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    public enum Relation {
+        LIKE("like"),
+        SAVE("save");
+
+        private final String suffix;
+
+        Relation(String suffix) {
+            this.suffix = suffix;
+        }
+    }
+
+    public enum Lookup {
+        HIT,
+        MISS,
+        UNAVAILABLE
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public PostRelationCacheRepository(
+            StringRedisTemplate redisTemplate,
+            @Value("${post.relation-cache.ttl:PT6H}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * postIds 중 사용자가 relation 관계를 맺은 게시글을 marker 에 전달합니다.
+     *
+     * @return Set 이 있으면 HIT, 없으면 MISS, Redis 조회에 실패하면 UNAVAILABLE (MISS/UNAVAILABLE 이면 marker 는 호출되지 않음)
+     */
+    public Lookup findMembers(Long userId, Relation relation, long[] postIds, LongConsumer marker) {
+        Object[] members = new Object[postIds.length + 1];
+        members[0] = SENTINEL;
+        for (int i = 0; i < postIds.length; i++) {
+            members[i + 1] = String.valueOf(postIds[i]);
+        }
+
+        try {
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key(userId, relation), members);
+            if (result == null || !Boolean.TRUE.equals(result.get(SENTINEL))) {
+                return Lookup.MISS;
+            }
+            for (int i = 0; i < postIds.length; i++) {
+                if (Boolean.TRUE.equals(result.get(members[i + 1]))) {
+                    marker.accept(postIds[i]);
+                }
+            }
+            return Lookup.HIT;
+        } catch (DataAccessException e) {
+            log.warn("게시글 관계 캐시 조회 실패 (userId: {}, relation: {})", userId, relation, e);
+            return Lookup.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * Set 생성 전에 현재 세대를 읽습니다. 반드시 DB 조회보다 먼저 호출해야 합니다.
+     *
+     * @return 현재 세대 (카운터가 없으면 0, Redis 조회에 실패하면 {@link #UNKNOWN_GENERATION})
+     */
+    public long getGeneration(Long userId, Relation relation) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(userId, relation));
+            return generation != null ? Long.parseLong(generation) : 0L;
+        } catch (DataAccessException e) {
+            log.warn("게시글 관계 캐시 세대 조회 실패 (userId: {}, relation: {})", userId, relation, e);
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    /**
+     * DB 에서 읽은 전체 postId 로 Set 을 생성합니다.
+     * 임시 키에 먼저 기록한 뒤, 세대가 generation 그대로이고 Set 이 아직 없을 때만 교체합니다.
+     * 그사이 증분 갱신이 있었다면 DB 조회 결과가 최신이 아닐 수 있으므로 반영하지 않고 다음 조회 때 다시 생성합니다.
+     *
+     * @param generation DB 조회 전에 {@link #getGeneration(Long, Relation)} 로 읽은 세대
+     */
+    public void saveAll(Long userId, Relation relation, long generation, Collection<Long> postIds) {
+        if (generation == UNKNOWN_GENERATION) {
+            return;
+        }
+        String key = key(userId, relation);
+        String buildingKey = key + BUILDING_KEY_SUFFIX + UUID.randomUUID();
+        try {
+            String[] members = new String[postIds.size() + 1];
+            members[0] = SENTINEL;
+            int index = 1;
+            for (Long postId : postIds) {
+                members[index++] = String.valueOf(postId);
+            }
+
+            redisTemplate.opsForSet().add(buildingKey, members);
+            redisTemplate.expire(buildingKey, ttl);
+            redisTemplate.execute(
+                    PUBLISH_IF_GENERATION,
+                    List.of(buildingKey, key, generationKey(userId, relation)),
+                    String.valueOf(generation)
+            );
+        } catch (DataAccessException e) {
+            log.warn("게시글 관계 캐시 생성 실패 (userId: {}, relation: {})", userId, relation, e);
+            deleteQuietly(buildingKey);
+        }
+    }
+
+    /**
+     * 좋아요/스크랩한 게시글을 Set 에 추가합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void add(Long userId, Relation relation, Long postId) {
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.execute(
+                        ADD_IF_PRESENT,
+                        List.of(key(userId, relation), generationKey(userId, relation)),
+                        String.valueOf(postId),
+                        String.valueOf(ttl.toSeconds())
+                );
+            } catch (DataAccessException e) {
+                log.warn("게시글 관계 캐시 추가 실패, 캐시를 폐기합니다 (userId: {}, relation: {}, postId: {})",
+                        userId, relation, postId, e);
+                deleteQuietly(key(userId, relation));
+            }
+        });
+    }
+
+    /**
+     * 좋아요/스크랩을 해제한 게시글을 Set 에서 제거합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void remove(Long userId, Relation relation, Long postId) {
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.execute(
+                        REMOVE,
+                        List.of(key(userId, relation), generationKey(userId, relation)),
+                        String.valueOf(postId),
+                        String.valueOf(ttl.toSeconds())
+                );
+            } catch (DataAccessException e) {
+                log.warn("게시글 관계 캐시 제거 실패, 캐시를 폐기합니다 (userId: {}, relation: {}, postId: {})",
+                        userId, relation, postId, e);
+                deleteQuietly(key(userId, relation));
+            }
+        });
+    }
+
+    /**
+     * 사용자의 relation Set 을 폐기합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void evict(Long userId, Relation relation) {
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.execute(
+                        EVICT,
+                        List.of(key(userId, relation), generationKey(userId, relation)),
+                        String.valueOf(ttl.toSeconds())
+                );
+            } catch (DataAccessException e) {
+                log.warn("게시글 관계 캐시 폐기 실패 (userId: {}, relation: {})", userId, relation, e);
+                deleteQuietly(key(userId, relation));
+            }
+        });
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("게시글 관계 캐시 키 삭제 실패 (key: {})", key, e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String key(Long userId, Relation relation) {
+        return KEY_PREFIX + userId + KEY_SUFFIX + relation.suffix;
+    }
+
+    private String generationKey(Long userId, Relation relation) {
+        return key(userId, relation) + GENERATION_KEY_SUFFIX;
+    }
+}
@@ -3,6 +3,11 @@ package org.dplay.server.domain.post.repository;
 import org.dplay.server.domain.post.entity.Post;
 import org.dplay.server.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostFeedQueryRepository {
 
@@ -12,5 +17,29 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostFeedQuery
 
     long countByUserUserId(Long userId);
 
+    /**
+     * 특정 유저가 게시글을 작성한 질문 ID 목록을 조회합니다.
+     *
+     * @param user User 엔티티
+     * @return 질문 ID 목록
+     */
+    @Query("SELECT DISTINCT p.question.questionId FROM Post p WHERE p.user = :user")
+    List<Long> findQuestionIdsByUser(@Param("user") User user);
+
     void deleteAllByUser(User user);
+
+    /**
+     * 스크랩 수를 단일 UPDATE 문으로 증감합니다. (0 미만으로 내려가지 않음)
+     *
+     * @param postId 게시글 ID
+     * @param delta  증감량
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.saveCount = CASE WHEN p.saveCount + :delta < 0 THEN 0 ELSE p.saveCount + :delta END "
+            + "WHERE p.postId = :postId")
+    int addSaveCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    @Query("SELECT p.saveCount FROM Post p WHERE p.postId = :postId")
+    int findSaveCountByPostId(@Param("postId") Long postId);
 }
@@ -4,9 +4,11 @@ import org.dplay.server.domain.post.entity.Post;
 import org.dplay.server.domain.post.entity.PostSave;
 import org.dplay.server.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,9 +31,6 @@ public interface PostSaveRepository extends JpaRepository<PostSave, Long> {
      */
     Optional<PostSave> findByPostAndUser(Post post, User user);
 
-    @Query("SELECT ps.post.postId FROM PostSave ps WHERE ps.post IN :posts AND ps.user = :user")
-    List<Long> findPostIdsByUserAndPosts(@Param("user") User user, @Param("posts") List<Post> posts);
-
     /**
      * 특정 유저가 스크랩한 PostSave의 개수를 조회합니다.
      *
@@ -40,6 +39,54 @@ public interface PostSaveRepository extends JpaRepository<PostSave, Long> {
      */
     long countByUserUserId(Long userId);
 
+    /**
+     * (post_id, user_id) 유니크 제약을 이용해 PostSave를 한 번의 쿼리로 추가합니다.
+     * 이미 존재하는 경우 추가하지 않으므로, 반환값으로 실제 추가 여부를 판단합니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 유저 ID
+     * @param now    생성/수정 시각
+     * @return 추가되었으면 true (이미 스크랩한 경우 false)
+     */
+    default boolean insertIfAbsent(Long postId, Long userId, LocalDateTime now) {
+        return insertWhereNotExists(postId, userId, now) == 1;
+    }
+
+    /**
+     * 같은 (post_id, user_id) 행이 없을 때만 추가하므로 영향 행 수는 추가 1, 이미 존재 0 입니다.
+     * 영향 행 수가 드라이버의 CLIENT_FOUND_ROWS 설정이나 수정 시각 값에 따라 달라지지 않도록
+     * ON DUPLICATE KEY UPDATE 대신 NOT EXISTS 로 판단합니다.
+     * 같은 요청이 동시에 들어와 검사를 함께 통과하면 유니크 제약(또는 잠금 충돌)으로 한쪽이 예외로 실패하므로,
+     * 중복이 추가로 집계되지는 않습니다. FK 위반 등 다른 오류도 그대로 예외로 전달됩니다.
+     *
+     * @return 영향 행 수 (추가 1, 이미 존재 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_save (post_id, user_id, created_at, modified_at) " +
+            "SELECT :postId, :userId, :now, :now FROM DUAL " +
+            "WHERE NOT EXISTS (SELECT 1 FROM post_save WHERE post_id = :postId AND user_id = :userId)", nativeQuery = true)
+    int insertWhereNotExists(@Param("postId") Long postId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * (post_id, user_id)로 PostSave를 한 번의 쿼리로 삭제합니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 유저 ID
+     * @return 삭제된 행 수 (스크랩하지 않은 경우 0)
+     */
+    @Modifying
+    @Query("DELETE FROM PostSave ps WHERE ps.post.postId = :postId AND ps.user.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 유저가 스크랩한 전체 postId 를 조회합니다. (게시글 관계 캐시 생성용)
+     *
+     * @param userId 유저 ID
+     * @return postId 목록
+     */
+    @Query("SELECT ps.post.postId FROM PostSave ps WHERE ps.user.userId = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
     void deleteAllByUser(User user);
 }
 
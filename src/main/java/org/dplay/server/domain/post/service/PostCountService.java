@@ -0,0 +1,17 @@
+package org.dplay.server.domain.post.service;
+
+import java.util.Collection;
+
+/**
+ * 질문별/사용자별 게시글 수 집계 컬럼(Question.postCount, User.postCount)을 관리하는 서비스
+ */
+public interface PostCountService {
+
+    void increase(Long questionId, Long userId);
+
+    void decrease(Long questionId, Long userId);
+
+    void recountQuestions(Collection<Long> questionIds);
+
+    void reconcile();
+}
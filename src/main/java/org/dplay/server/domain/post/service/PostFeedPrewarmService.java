@@ -0,0 +1,19 @@
+package org.dplay.server.domain.post.service;
+
+import java.time.LocalDate;
+
+public interface PostFeedPrewarmService {
+
+    /**
+     * 자정 직전에 곧 노출될 질문의 피드 데이터를 미리 적재합니다.
+     */
+    void prewarmUpcomingQuestion();
+
+    /**
+     * displayDate 에 노출되는 질문, 에디터픽, 피드 스냅샷을 미리 적재합니다.
+     *
+     * @param displayDate 질문 노출 날짜
+     * @return 질문이 등록되어 있어 적재했으면 true
+     */
+    boolean prewarm(LocalDate displayDate);
+}
@@ -11,5 +11,24 @@ public interface PostFeedService {
             Integer limit
     );
 
-    PostFeedResultDto getTodayRecommendationFeed(Long userId);
+    /**
+     * 오늘의 추천글 피드를 조회합니다.
+     * cursor 와 limit 이 모두 없으면 전체 목록을 한 번에 반환하고, 하나라도 있으면 페이지 단위로 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit  페이지 사이즈
+     */
+    PostFeedResultDto getTodayRecommendationFeed(
+            Long userId,
+            String cursor,
+            Integer limit
+    );
+
+    /**
+     * 질문의 피드 스냅샷이 없으면 DB 에서 읽어 미리 생성합니다.
+     *
+     * @param questionId 질문 ID
+     */
+    void prewarmFeedSnapshot(Long questionId);
 }
@@ -4,8 +4,6 @@ import org.dplay.server.domain.post.dto.PostLikeDto;
 import org.dplay.server.domain.post.entity.Post;
 import org.dplay.server.domain.user.entity.User;
 
-import java.util.List;
-
 public interface PostLikeService {
     /**
      * 좋아요를 추가합니다.
@@ -27,7 +25,5 @@ public interface PostLikeService {
 
     void deletePostSave(User user);
 
-    List<Long> findLikedPostIds(User user, List<Post> posts);
-
     boolean isLiked(Post post, User user);
 }
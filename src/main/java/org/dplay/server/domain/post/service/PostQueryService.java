@@ -1,5 +1,7 @@
 package org.dplay.server.domain.post.service;
 
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.entity.Post;
 
 import java.util.List;
@@ -10,23 +12,23 @@ public interface PostQueryService {
 
     long countByQuestion(Long questionId);
 
-    List<Post> findFeedPosts(
+    List<PostSummaryDto> findFeedPosts(
             Long questionId,
             Long cursorLikeCount,
             Long cursorPostId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     );
 
-    List<Post> findLatestPosts(
+    List<PostSummaryDto> findLatestPosts(
             Long questionId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     );
 
-    List<Post> findAllFeedPosts(
+    List<PostSummaryDto> findAllFeedPosts(
             Long questionId,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     );
 
     long countByUser(Long userId);
@@ -36,4 +38,6 @@ public interface PostQueryService {
             Long cursorPostId,
             int limit
     );
+
+    PostRelationFlags findRelationFlags(Long userId, long[] postIds);
 }
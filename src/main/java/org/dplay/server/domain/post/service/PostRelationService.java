@@ -0,0 +1,15 @@
+package org.dplay.server.domain.post.service;
+
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+
+public interface PostRelationService {
+
+    /**
+     * 사용자가 게시글들에 좋아요/스크랩했는지 조회합니다.
+     *
+     * @param userId  사용자 ID
+     * @param postIds 화면에 노출되는 순서대로 나열한 postId
+     * @return 페이지 내 순서(index)로 조회할 수 있는 좋아요/스크랩 여부
+     */
+    PostRelationFlags getRelationFlags(Long userId, long[] postIds);
+}
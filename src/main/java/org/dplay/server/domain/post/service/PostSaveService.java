@@ -25,8 +25,6 @@ public interface PostSaveService {
 
     void deletePostSave(User user);
 
-    List<Long> findScrappedPostIds(User user, List<Post> posts);
-
     boolean isSaved(Post post, User user);
 
     UserPostsResultDto getUserSaves(Long userId, String cursor, Integer limit);
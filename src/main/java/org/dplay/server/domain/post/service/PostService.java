@@ -13,13 +13,21 @@ public interface PostService {
 
     void deletePostByPostId(final long userId, final long postId);
 
-    void incrementLikeCount(Post post);
-
-    void decrementLikeCount(Post post);
-
-    void incrementSaveCount(Post post);
-
-    void decrementSaveCount(Post post);
+    /**
+     * 스크랩 수를 1 증가시킵니다.
+     *
+     * @param postId 게시글 ID
+     * @return 증가 후 스크랩 수
+     */
+    int incrementSaveCount(final long postId);
+
+    /**
+     * 스크랩 수를 1 감소시킵니다. (0 미만으로 내려가지 않음)
+     *
+     * @param postId 게시글 ID
+     * @return 감소 후 스크랩 수
+     */
+    int decrementSaveCount(final long postId);
 
     Post findByPostId(long postId);
 
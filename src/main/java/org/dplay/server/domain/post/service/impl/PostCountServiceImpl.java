@@ -0,0 +1,60 @@
+package org.dplay.server.domain.post.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.domain.post.service.PostCountService;
+import org.dplay.server.domain.question.repository.QuestionRepository;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 게시글 작성/삭제 시 집계 컬럼을 단일 UPDATE 문으로 증감하므로 동시 요청에도 유실되지 않습니다.
+ * 회원 탈퇴처럼 여러 게시글이 한 번에 삭제되는 경우는 해당 질문만 다시 집계하고,
+ * 그 밖의 경로로 어긋난 값은 주기적인 재집계 작업이 바로잡습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PostCountServiceImpl implements PostCountService {
+
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public void increase(Long questionId, Long userId) {
+        questionRepository.addPostCount(questionId, 1);
+        userRepository.addPostCount(userId, 1);
+    }
+
+    @Override
+    public void decrease(Long questionId, Long userId) {
+        questionRepository.addPostCount(questionId, -1);
+        userRepository.addPostCount(userId, -1);
+    }
+
+    @Override
+    public void recountQuestions(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return;
+        }
+        questionRepository.recountPostCounts(questionIds);
+    }
+
+    /**
+     * 실제 게시글 수와 다른 집계 컬럼만 다시 계산합니다.
+     */
+    @Override
+    @Scheduled(cron = "${post.count-reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        int questions = questionRepository.reconcilePostCounts();
+        int users = userRepository.reconcilePostCounts();
+        if (questions > 0 || users > 0) {
+            log.info("게시글 수 재집계 완료 (questions: {}, users: {})", questions, users);
+        }
+    }
+}
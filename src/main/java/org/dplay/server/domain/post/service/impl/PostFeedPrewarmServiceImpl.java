@@ -0,0 +1,103 @@
+package org.dplay.server.domain.post.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.service.PostFeedPrewarmService;
+import org.dplay.server.domain.post.service.PostFeedService;
+import org.dplay.server.domain.question.entity.Question;
+import org.dplay.server.domain.question.entity.QuestionEditorPick;
+import org.dplay.server.domain.question.service.QuestionEditorPickService;
+import org.dplay.server.domain.question.service.QuestionService;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.service.TrackMetadataSyncService;
+import org.dplay.server.global.exception.DPlayException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 자정에 질문이 바뀌는 순간 몰리는 요청이 모두 캐시를 놓치지 않도록, 직전에 다음 질문의 데이터를 미리 적재하는 서비스
+ * <p>
+ * 질문은 2차 캐시(쿼리 캐시 포함), 에디터픽(게시글, 작성자, 트랙 포함)은 QuestionEditorPickService 의 적재분,
+ * 피드는 Redis 스냅샷에 적재되고, 메타데이터가 오래된 트랙은 Apple Music 동기화를 요청합니다.
+ * 모두 날짜 또는 questionId 를 키로 하므로 미리 적재해도 현재 질문의 응답에는 영향이 없고,
+ * 자정이 지나 Clock 의 날짜가 바뀌면 요청이 곧바로 적재된 항목을 사용합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PostFeedPrewarmServiceImpl implements PostFeedPrewarmService {
+
+    private static final String DEFAULT_STOREFRONT = "kr";
+
+    private final Clock clock;
+    private final QuestionService questionService;
+    private final QuestionEditorPickService questionEditorPickService;
+    private final PostFeedService postFeedService;
+    private final TrackMetadataSyncService trackMetadataSyncService;
+    private final Duration lead;
+
+    public PostFeedPrewarmServiceImpl(
+            Clock clock,
+            QuestionService questionService,
+            QuestionEditorPickService questionEditorPickService,
+            PostFeedService postFeedService,
+            TrackMetadataSyncService trackMetadataSyncService,
+            @Value("${feed.prewarm.lead:PT1M}") Duration lead
+    ) {
+        this.clock = clock;
+        this.questionService = questionService;
+        this.questionEditorPickService = questionEditorPickService;
+        this.postFeedService = postFeedService;
+        this.trackMetadataSyncService = trackMetadataSyncService;
+        this.lead = lead;
+    }
+
+    /**
+     * 실행 시각에 lead 를 더한 날짜의 질문을 적재합니다.
+     * 스케줄이 늦어져 자정 이후에 실행되더라도 오늘 질문을 적재하게 됩니다.
+     */
+    @Override
+    @Scheduled(cron = "${feed.prewarm-cron:50 59 23 * * *}", zone = "Asia/Seoul")
+    public void prewarmUpcomingQuestion() {
+        LocalDate displayDate = LocalDate.now(Clock.offset(clock, lead));
+        if (!prewarm(displayDate)) {
+            log.warn("질문이 등록되지 않아 사전 적재를 건너뜁니다 (displayDate: {})", displayDate);
+        }
+    }
+
+    @Override
+    public boolean prewarm(LocalDate displayDate) {
+        Question question;
+        try {
+            question = questionService.getQuestionByDate(displayDate);
+        } catch (DPlayException e) {
+            return false;
+        }
+
+        Long questionId = question.getQuestionId();
+        List<QuestionEditorPick> editorPicks = questionEditorPickService.prewarmEditorPicks(questionId);
+        for (QuestionEditorPick editorPick : editorPicks) {
+            Post post = editorPick.getPost();
+            if (post == null) {
+                continue;
+            }
+            Track track = post.getTrack();
+            if (trackMetadataSyncService.needsSync(track)) {
+                trackMetadataSyncService.requestSync(track.getTrackId(), DEFAULT_STOREFRONT);
+            }
+        }
+
+        postFeedService.prewarmFeedSnapshot(questionId);
+
+        log.info("피드 사전 적재 완료 (displayDate: {}, questionId: {}, editorPicks: {})",
+                displayDate, questionId, editorPicks.size());
+        return true;
+    }
+}
@@ -4,11 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dplay.server.domain.post.dto.PostFeedItemDto;
 import org.dplay.server.domain.post.dto.PostFeedResultDto;
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostLikeCountBuffer;
 import org.dplay.server.domain.post.service.PostFeedService;
-import org.dplay.server.domain.post.service.PostLikeService;
 import org.dplay.server.domain.post.service.PostQueryService;
-import org.dplay.server.domain.post.service.PostSaveService;
+import org.dplay.server.domain.post.service.PostRelationService;
 import org.dplay.server.domain.question.entity.Question;
 import org.dplay.server.domain.question.entity.QuestionEditorPick;
 import org.dplay.server.domain.question.service.QuestionEditorPickService;
@@ -17,9 +20,11 @@ import org.dplay.server.domain.user.entity.User;
 import org.dplay.server.domain.user.repository.UserRepository;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.ReadFanOutExecutor;
+import org.dplay.server.global.util.ReadFanOutExecutor.Subtask;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.nio.charset.StandardCharsets;
@@ -45,42 +50,66 @@ public class PostFeedServiceImpl implements PostFeedService {
     private final QuestionService questionService;
     private final QuestionEditorPickService questionEditorPickService;
     private final PostQueryService postQueryService;
-    private final PostLikeService postLikeService;
-    private final PostSaveService postSaveService;
+    private final PostRelationService postRelationService;
     private final UserRepository userRepository;
-
+    private final PostFeedSnapshotRepository postFeedSnapshotRepository;
+    private final PostLikeCountBuffer postLikeCountBuffer;
+    private final ReadFanOutExecutor readFanOutExecutor;
+
+    /**
+     * 사용자, 질문, 에디터픽, 작성 여부, 게시글 수는 서로 독립적이므로 동시에 조회합니다.
+     * 조회마다 작업 스레드에서 각자의 트랜잭션을 사용합니다.
+     * 요청 스레드는 병렬 조회가 끝나기 전에 DB 를 사용하지 않으므로 그동안 커넥션을 쥐지 않지만,
+     * 이후 조회부터는 open-in-view 로 요청이 끝날 때까지 커넥션을 유지합니다. (풀 크기는 AsyncConfig 참고)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostFeedResultDto getPastRecommendationFeed(
             Long userId,
             Long questionId,
             String cursor,
             Integer limit
     ) {
-        // TODO : userService 로 바꾸기
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DPlayException(ResponseError.USER_NOT_FOUND));
-
-        Question question = questionService.getQuestionById(questionId);
+        User user;
+        Question question;
+        List<QuestionEditorPick> editorPicks;
+        boolean hasPosted;
+        long totalCount;
+        try (ReadFanOutExecutor.Scope scope = readFanOutExecutor.open()) {
+            // TODO : userService 로 바꾸기
+            Subtask<User> userTask = scope.fork(() -> userRepository.findById(userId)
+                    .orElseThrow(() -> new DPlayException(ResponseError.USER_NOT_FOUND)));
+            Subtask<Question> questionTask = scope.fork(() -> questionService.getQuestionById(questionId));
+            Subtask<List<QuestionEditorPick>> editorPicksTask =
+                    scope.fork(() -> questionEditorPickService.getOrderedEditorPicks(questionId));
+            Subtask<Boolean> hasPostedTask = scope.fork(() -> postQueryService.existsByQuestionAndUser(questionId, userId));
+            Subtask<Long> totalCountTask = scope.fork(() -> postQueryService.countByQuestion(questionId));
+            scope.join();
+
+            user = userTask.get();
+            question = questionTask.get();
+            editorPicks = editorPicksTask.get();
+            hasPosted = hasPostedTask.get();
+            totalCount = totalCountTask.get();
+        }
 
-        List<QuestionEditorPick> editorPicks = questionEditorPickService.getOrderedEditorPicks(questionId);
-        List<Post> editorPickPosts = editorPicks.stream()
+        List<PostSummaryDto> editorPickPosts = editorPicks.stream()
                 .map(QuestionEditorPick::getPost)
                 .limit(LOCKED_VISIBLE_LIMIT)
+                .map(this::toSummary)
                 .toList();
         Set<Long> editorPickPostIds = editorPickPosts.stream()
-                .map(Post::getPostId)
+                .map(PostSummaryDto::postId)
                 .collect(Collectors.toSet());
 
-        boolean hasPosted = postQueryService.existsByQuestionAndUser(questionId, userId);
         boolean locked = !hasPosted;
 
         int visibleLimit = determineVisibleLimit(limit, locked);
-        long totalCount = postQueryService.countByQuestion(questionId);
 
         Cursor decodedCursor = locked ? Cursor.EMPTY : decodeCursor(cursor);
         boolean isFirstPage = !locked && decodedCursor.isEmpty();
 
-        List<Post> responsePosts = new ArrayList<>();
+        List<PostSummaryDto> responsePosts = new ArrayList<>();
         String nextCursor = null;
 
         if (locked) {
@@ -89,25 +118,25 @@ public class PostFeedServiceImpl implements PostFeedService {
             int editorPickCount = editorPickPosts.size();
             int pageSize = isFirstPage ? Math.max(visibleLimit - editorPickCount, 0) : visibleLimit;
 
-            List<Post> feedPosts = new ArrayList<>();
+            List<PostSummaryDto> feedPosts = new ArrayList<>();
             if (pageSize > 0) {
                 int fetchSize = pageSize + 1;
-                List<Long> excludePostIds = new ArrayList<>(editorPickPostIds);
-                List<Post> fetched = postQueryService.findFeedPosts(
+                List<PostSummaryDto> fetched = postQueryService.findFeedPosts(
                         questionId,
                         decodedCursor.likeCount(),
                         decodedCursor.postId(),
                         fetchSize,
-                        excludePostIds
+                        true
                 );
 
                 if (fetched.size() > pageSize) {
-                    Post lastReturnedPost = fetched.get(pageSize - 1);
-                    nextCursor = encodeCursor(lastReturnedPost.getLikeCount(), lastReturnedPost.getPostId());
-                    feedPosts.addAll(fetched.subList(0, pageSize));
-                } else {
-                    feedPosts.addAll(fetched);
+                    PostSummaryDto lastReturnedPost = fetched.get(pageSize - 1);
+                    nextCursor = encodeCursor(lastReturnedPost.likeCount(), lastReturnedPost.postId());
+                    fetched = fetched.subList(0, pageSize);
                 }
+                fetched.stream()
+                        .map(this::applyPendingLikeDelta)
+                        .forEach(feedPosts::add);
             }
 
             if (isFirstPage) {
@@ -116,16 +145,14 @@ public class PostFeedServiceImpl implements PostFeedService {
             responsePosts.addAll(feedPosts);
         }
 
-        Set<Long> likedPostIds = fetchRelationPostIds(postLikeService::findLikedPostIds, responsePosts, user);
-        Set<Long> savedPostIds = fetchRelationPostIds(postSaveService::findScrappedPostIds, responsePosts, user);
+        PostRelationFlags relationFlags = fetchRelationFlags(responsePosts, user.getUserId());
 
         List<PostFeedItemDto> items = buildFeedItems(
                 responsePosts,
                 editorPickPostIds,
                 Collections.emptySet(),
                 Collections.emptySet(),
-                likedPostIds,
-                savedPostIds,
+                relationFlags,
                 question
         );
 
@@ -145,7 +172,7 @@ public class PostFeedServiceImpl implements PostFeedService {
     }
 
     @Override
-    public PostFeedResultDto getTodayRecommendationFeed(Long userId) {
+    public PostFeedResultDto getTodayRecommendationFeed(Long userId, String cursor, Integer limit) {
         LocalDate today = getTodayDate();
         Question question = questionService.getQuestionByDate(today);
         Long questionId = question.getQuestionId();
@@ -159,36 +186,40 @@ public class PostFeedServiceImpl implements PostFeedService {
 
         boolean hasPosted = postQueryService.existsByQuestionAndUser(questionId, userId);
         if (hasPosted) {
-            return buildUnlockedTodayFeed(user, question, editorPicks, totalCount);
+            return buildUnlockedTodayFeed(user, question, editorPicks, totalCount, cursor, limit);
         }
 
         return buildLockedTodayFeed(user, question, editorPicks, totalCount);
     }
 
+    @Override
+    public void prewarmFeedSnapshot(Long questionId) {
+        loadFeedSnapshot(questionId);
+    }
+
     private PostFeedResultDto buildLockedTodayFeed(User user,
                                                    Question question,
                                                    List<QuestionEditorPick> editorPicks,
                                                    long totalCount) {
-        List<Post> editorPickPosts = editorPicks.stream()
+        List<PostSummaryDto> editorPickPosts = editorPicks.stream()
                 .map(QuestionEditorPick::getPost)
                 .filter(post -> post != null && post.getPostId() != null)
                 .limit(LOCKED_VISIBLE_LIMIT)
+                .map(this::toSummary)
                 .toList();
 
         Set<Long> editorPickPostIds = editorPickPosts.stream()
-                .map(Post::getPostId)
+                .map(PostSummaryDto::postId)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        Set<Long> likedPostIds = fetchRelationPostIds(postLikeService::findLikedPostIds, editorPickPosts, user);
-        Set<Long> savedPostIds = fetchRelationPostIds(postSaveService::findScrappedPostIds, editorPickPosts, user);
+        PostRelationFlags relationFlags = fetchRelationFlags(editorPickPosts, user.getUserId());
 
         List<PostFeedItemDto> items = buildFeedItems(
                 editorPickPosts,
                 editorPickPostIds,
                 Collections.emptySet(),
                 Collections.emptySet(),
-                likedPostIds,
-                savedPostIds,
+                relationFlags,
                 question
         );
 
@@ -205,83 +236,129 @@ public class PostFeedServiceImpl implements PostFeedService {
         );
     }
 
+    /**
+     * 에디터픽1 - 인기글 - 최신글 - 나머지 랜덤 순으로 피드를 구성합니다.
+     * cursor 와 limit 이 모두 없으면 전체 목록을 반환하고, 하나라도 있으면 페이지 단위로 반환합니다.
+     * 페이지 모드에서는 나머지 글을 (사용자, 질문) 시드 기반 해시 순서로 정렬하므로
+     * 커서(rank, postId)만으로 같은 순열을 이어서 조회할 수 있습니다.
+     */
     private PostFeedResultDto buildUnlockedTodayFeed(User user,
                                                      Question question,
                                                      List<QuestionEditorPick> editorPicks,
-                                                     long totalCount) {
+                                                     long totalCount,
+                                                     String cursor,
+                                                     Integer limit) {
         Long questionId = question.getQuestionId();
+        boolean paginated = StringUtils.hasText(cursor) || limit != null;
+        boolean isFirstPage = !StringUtils.hasText(cursor);
+        TodayCursor decodedCursor = isFirstPage ? TodayCursor.EMPTY : decodeTodayCursor(cursor);
+
+        List<PostSummaryDto> questionPosts = loadFeedSnapshot(questionId);
+        Map<Long, PostSummaryDto> questionPostsById = questionPosts.stream()
+                .collect(Collectors.toMap(PostSummaryDto::postId, post -> post, (left, right) -> left));
 
-        List<Post> editorPickPosts = editorPicks.stream()
+        // 스냅샷에 반영된 좋아요 수가 더 최신이므로 에디터픽도 스냅샷 항목을 우선 사용한다
+        List<PostSummaryDto> editorPickPosts = editorPicks.stream()
                 .map(QuestionEditorPick::getPost)
                 .filter(post -> post != null && post.getPostId() != null)
+                .map(post -> {
+                    PostSummaryDto snapshotPost = questionPostsById.get(post.getPostId());
+                    return snapshotPost != null ? snapshotPost : toSummary(post);
+                })
                 .toList();
 
         Set<Long> editorPickPostIds = editorPickPosts.stream()
-                .map(Post::getPostId)
+                .map(PostSummaryDto::postId)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        List<Post> nonEditorPosts = postQueryService.findAllFeedPosts(
-                questionId,
-                new ArrayList<>(editorPickPostIds)
-        );
+        List<PostSummaryDto> nonEditorPosts = questionPosts.stream()
+                .filter(post -> !editorPickPostIds.contains(post.postId()))
+                .toList();
 
-        List<Post> resultPosts = new ArrayList<>();
+        List<PostSummaryDto> resultPosts = new ArrayList<>();
         Set<Long> forcedPopularPostIds = new HashSet<>();
         Set<Long> forcedNewPostIds = new HashSet<>();
 
-        Set<Long> usedEditorPickIds = new LinkedHashSet<>();
-        Post primaryEditorPick = selectNextEditorPick(editorPickPosts, usedEditorPickIds);
-        if (primaryEditorPick != null) {
-            resultPosts.add(primaryEditorPick);
-        }
+        if (isFirstPage) {
+            Set<Long> usedEditorPickIds = new LinkedHashSet<>();
+            PostSummaryDto primaryEditorPick = selectNextEditorPick(editorPickPosts, usedEditorPickIds);
+            if (primaryEditorPick != null) {
+                resultPosts.add(primaryEditorPick);
+            }
 
-        List<Post> candidatePosts = new ArrayList<>();
-        editorPickPosts.stream()
-                .filter(post -> post.getPostId() != null && !usedEditorPickIds.contains(post.getPostId()))
-                .forEach(candidatePosts::add);
-        candidatePosts.addAll(nonEditorPosts);
-
-        Post popularPost = candidatePosts.stream()
-                .max(Comparator
-                        .comparingInt(Post::getLikeCount)
-                        .thenComparingLong(Post::getPostId))
-                .orElse(null);
-
-        if (popularPost != null) {
-            forcedPopularPostIds.add(popularPost.getPostId());
-            addIfAbsent(resultPosts, popularPost);
-        }
+            List<PostSummaryDto> candidatePosts = new ArrayList<>();
+            editorPickPosts.stream()
+                    .filter(post -> post.postId() != null && !usedEditorPickIds.contains(post.postId()))
+                    .forEach(candidatePosts::add);
+            candidatePosts.addAll(nonEditorPosts);
+
+            PostSummaryDto popularPost = candidatePosts.stream()
+                    .max(Comparator
+                            .comparingInt(PostSummaryDto::likeCount)
+                            .thenComparingLong(PostSummaryDto::postId))
+                    .orElse(null);
+
+            if (popularPost != null) {
+                forcedPopularPostIds.add(popularPost.postId());
+                addIfAbsent(resultPosts, popularPost);
+            }
 
-        Post newestPost = candidatePosts.stream()
-                .max(Comparator
-                        .comparing(Post::getCreatedAt, Comparator.nullsFirst(LocalDateTime::compareTo))
-                        .thenComparingLong(Post::getPostId))
-                .orElse(null);
+            PostSummaryDto newestPost = candidatePosts.stream()
+                    .max(Comparator
+                            .comparing(PostSummaryDto::createdAt, Comparator.nullsFirst(LocalDateTime::compareTo))
+                            .thenComparingLong(PostSummaryDto::postId))
+                    .orElse(null);
 
-        if (newestPost != null) {
-            forcedNewPostIds.add(newestPost.getPostId());
-            addIfAbsent(resultPosts, newestPost);
+            if (newestPost != null) {
+                forcedNewPostIds.add(newestPost.postId());
+                addIfAbsent(resultPosts, newestPost);
+            }
         }
 
-        List<Post> remainingPosts = candidatePosts.stream()
-                .filter(post -> resultPosts.stream()
-                        .map(Post::getPostId)
-                        .noneMatch(id -> Objects.equals(id, post.getPostId())))
-                .collect(Collectors.toCollection(ArrayList::new));
+        // 첫 페이지에서 고정 노출한 글은 이후 페이지에서도 제외되도록 커서에 실어 보낸다
+        Set<Long> headPostIds = isFirstPage
+                ? resultPosts.stream().map(PostSummaryDto::postId).collect(Collectors.toCollection(LinkedHashSet::new))
+                : decodedCursor.headPostIds();
 
-        Collections.shuffle(remainingPosts, ThreadLocalRandom.current());
-        resultPosts.addAll(remainingPosts);
+        List<PostSummaryDto> remainingPosts = new ArrayList<>();
+        editorPickPosts.stream()
+                .filter(post -> !headPostIds.contains(post.postId()))
+                .forEach(remainingPosts::add);
+        nonEditorPosts.stream()
+                .filter(post -> !headPostIds.contains(post.postId()))
+                .forEach(remainingPosts::add);
+
+        String nextCursor = null;
+        int visibleLimit;
+        if (paginated) {
+            visibleLimit = determineVisibleLimit(limit, false);
+            int pageSize = isFirstPage ? Math.max(visibleLimit - resultPosts.size(), 0) : visibleLimit;
+
+            long seed = shuffleSeed(user.getUserId(), questionId);
+            List<RankedPost> fetched = selectNextRankedPosts(remainingPosts, seed, decodedCursor, pageSize + 1);
+            if (fetched.size() > pageSize) {
+                fetched = fetched.subList(0, pageSize);
+                nextCursor = fetched.isEmpty()
+                        ? encodeTodayCursor(decodedCursor.rank(), decodedCursor.postId(), headPostIds)
+                        : encodeTodayCursor(fetched.get(pageSize - 1).rank(), fetched.get(pageSize - 1).post().postId(), headPostIds);
+            }
+            fetched.stream()
+                    .map(RankedPost::post)
+                    .forEach(resultPosts::add);
+        } else {
+            Collections.shuffle(remainingPosts, ThreadLocalRandom.current());
+            resultPosts.addAll(remainingPosts);
+            visibleLimit = resultPosts.size();
+        }
 
-        Set<Long> likedPostIds = fetchRelationPostIds(postLikeService::findLikedPostIds, resultPosts, user);
-        Set<Long> savedPostIds = fetchRelationPostIds(postSaveService::findScrappedPostIds, resultPosts, user);
+        PostRelationFlags relationFlags = fetchRelationFlags(resultPosts, user.getUserId());
 
         List<PostFeedItemDto> items = buildFeedItems(
                 resultPosts,
                 editorPickPostIds,
                 forcedPopularPostIds,
                 forcedNewPostIds,
-                likedPostIds,
-                savedPostIds,
+                relationFlags,
                 question
         );
 
@@ -291,127 +368,180 @@ public class PostFeedServiceImpl implements PostFeedService {
                 question.getTitle(),
                 true,
                 false,
-                resultPosts.size(),
+                visibleLimit,
                 totalCount,
-                null,
+                nextCursor,
                 items
         );
     }
 
-    private void addIfAbsent(List<Post> posts, Post candidate) {
-        boolean exists = posts.stream()
-                .anyMatch(post -> Objects.equals(post.getPostId(), candidate.getPostId()));
-        if (!exists) {
-            posts.add(candidate);
+    /**
+     * 커서 이후의 글 중 (rank, postId) 오름차순으로 앞선 최대 size 개를 고릅니다.
+     * 전체를 정렬하지 않고 크기가 size 인 힙만 유지합니다.
+     */
+    private List<RankedPost> selectNextRankedPosts(List<PostSummaryDto> posts,
+                                                   long seed,
+                                                   TodayCursor cursor,
+                                                   int size) {
+        PriorityQueue<RankedPost> heap = new PriorityQueue<>(Math.max(size, 1), RankedPost.ORDER.reversed());
+        for (PostSummaryDto post : posts) {
+            RankedPost rankedPost = new RankedPost(shuffleRank(seed, post.postId()), post);
+            if (!cursor.isBefore(rankedPost)) {
+                continue;
+            }
+            heap.offer(rankedPost);
+            if (heap.size() > size) {
+                heap.poll();
+            }
         }
+
+        List<RankedPost> selected = new ArrayList<>(heap);
+        selected.sort(RankedPost.ORDER);
+        return selected;
     }
 
-    private void fillWithRemainingEditorPicks(List<Post> editorPickPosts,
-                                              Set<Long> usedEditorPickIds,
-                                              List<Post> selectedPosts) {
-        while (selectedPosts.size() < LOCKED_VISIBLE_LIMIT) {
-            Post nextEditorPick = selectNextEditorPick(editorPickPosts, usedEditorPickIds);
-            if (nextEditorPick == null) {
-                break;
-            }
-            selectedPosts.add(nextEditorPick);
-        }
+    private long shuffleSeed(Long userId, Long questionId) {
+        return mix64(mix64(userId) + questionId);
     }
 
-    private Post selectNextEditorPick(List<Post> editorPickPosts,
-                                      Set<Long> usedEditorPickIds) {
-        for (Post editorPick : editorPickPosts) {
-            Long postId = editorPick.getPostId();
-            if (postId == null) {
-                continue;
+    private long shuffleRank(long seed, Long postId) {
+        return mix64(seed ^ postId);
+    }
+
+    /**
+     * SplitMix64 의 finalizer. 입력 비트를 고르게 섞어 시드별로 서로 다른 순열을 만든다.
+     */
+    private static long mix64(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private TodayCursor decodeTodayCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor format");
             }
-            if (usedEditorPickIds.add(postId)) {
-                return editorPick;
+            Long rank = parts[0].isEmpty() ? null : Long.parseLong(parts[0]);
+            Long postId = parts[1].isEmpty() ? null : Long.parseLong(parts[1]);
+            if ((rank == null) != (postId == null)) {
+                throw new IllegalArgumentException("Invalid cursor format");
             }
+            Set<Long> headPostIds = new LinkedHashSet<>();
+            if (!parts[2].isEmpty()) {
+                for (String headPostId : parts[2].split(",")) {
+                    headPostIds.add(Long.parseLong(headPostId));
+                }
+            }
+            return new TodayCursor(rank, postId, headPostIds);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cursor received: {}", cursor, e);
+            throw new DPlayException(ResponseError.INVALID_REQUEST_PARAMETER);
         }
-        return null;
     }
 
-    private List<Long> collectPostIds(List<Post> posts) {
-        return posts.stream()
-                .map(Post::getPostId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private String encodeTodayCursor(Long rank, Long postId, Set<Long> headPostIds) {
+        String rawCursor = (rank != null ? rank.toString() : "")
+                + ":" + (postId != null ? postId.toString() : "")
+                + ":" + headPostIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
     }
 
-    private Post selectPopularPost(Long questionId, List<Long> excludedPostIds) {
-        List<Post> candidates = postQueryService.findFeedPosts(
-                questionId,
-                null,
-                null,
-                1,
-                excludedPostIds
-        );
-
-        if (candidates.isEmpty()) {
-            return null;
-        }
-
-        return candidates.get(0);
+    /**
+     * 질문의 전체 게시글을 피드 스냅샷에서 읽어오고, 스냅샷이 없으면 DB 에서 한 번 읽어 스냅샷을 생성합니다.
+     * <p>
+     * 스냅샷은 TTL 동안 재사용되므로 primary 에서 읽고(PostQueryService#findAllFeedPosts 참고),
+     * 좋아요 수 반영이 DB 조회와 대기 증감분 조회 사이에 끼어들지 않도록 반영을 잠시 막은 채 읽습니다.
+     */
+    private List<PostSummaryDto> loadFeedSnapshot(Long questionId) {
+        return postFeedSnapshotRepository.findByQuestionId(questionId)
+                .orElseGet(() -> {
+                    List<PostSummaryDto> posts = postLikeCountBuffer.readWithoutFlush(() ->
+                            postQueryService.findAllFeedPosts(questionId, false).stream()
+                                    .map(this::applyPendingLikeDelta)
+                                    .toList());
+                    postFeedSnapshotRepository.saveAll(questionId, posts);
+                    return posts;
+                });
     }
 
-    private Post selectNewestPost(Long questionId, List<Long> excludedPostIds) {
-        List<Post> candidates = postQueryService.findLatestPosts(
-                questionId,
-                1,
-                excludedPostIds
-        );
+    private PostSummaryDto toSummary(Post post) {
+        return applyPendingLikeDelta(PostSummaryDto.from(post));
+    }
 
-        if (candidates.isEmpty()) {
-            return null;
+    /**
+     * DB 에서 읽은 게시글에 아직 반영되지 않은 좋아요 수 증감분을 덧씌웁니다.
+     * (스냅샷의 좋아요 수는 좋아요 시점에 바로 갱신되므로 스냅샷 항목에는 적용하지 않습니다)
+     */
+    private PostSummaryDto applyPendingLikeDelta(PostSummaryDto summary) {
+        long pendingDelta = postLikeCountBuffer.getPendingDelta(summary.postId());
+        if (pendingDelta == 0L) {
+            return summary;
         }
+        return summary.withLikeCount((int) Math.max(0, summary.likeCount() + pendingDelta));
+    }
 
-        return candidates.get(0);
+    private void addIfAbsent(List<PostSummaryDto> posts, PostSummaryDto candidate) {
+        boolean exists = posts.stream()
+                .anyMatch(post -> Objects.equals(post.postId(), candidate.postId()));
+        if (!exists) {
+            posts.add(candidate);
+        }
     }
 
-    private Set<Long> fetchRelationPostIds(RelationFetcher fetcher,
-                                           List<Post> posts,
-                                           User user) {
-        if (CollectionUtils.isEmpty(posts)) {
-            return new HashSet<>();
+    private PostSummaryDto selectNextEditorPick(List<PostSummaryDto> editorPickPosts,
+                                                Set<Long> usedEditorPickIds) {
+        for (PostSummaryDto editorPick : editorPickPosts) {
+            Long postId = editorPick.postId();
+            if (postId == null) {
+                continue;
+            }
+            if (usedEditorPickIds.add(postId)) {
+                return editorPick;
+            }
         }
-        List<Long> postIds = fetcher.fetch(user, posts);
-        if (postIds == null) {
-            return new HashSet<>();
+        return null;
+    }
+
+    private PostRelationFlags fetchRelationFlags(List<PostSummaryDto> posts, Long userId) {
+        long[] postIds = new long[posts.size()];
+        for (int index = 0; index < postIds.length; index++) {
+            postIds[index] = posts.get(index).postId();
         }
-        return new HashSet<>(postIds);
+        return postRelationService.getRelationFlags(userId, postIds);
     }
 
-    private List<PostFeedItemDto> buildFeedItems(List<Post> posts,
+    private List<PostFeedItemDto> buildFeedItems(List<PostSummaryDto> posts,
                                                  Set<Long> editorPickPostIds,
                                                  Set<Long> forcedPopularPostIds,
                                                  Set<Long> forcedNewPostIds,
-                                                 Set<Long> likedPostIds,
-                                                 Set<Long> savedPostIds,
+                                                 PostRelationFlags relationFlags,
                                                  Question question) {
-        return posts.stream()
-                .map(post -> {
-                    boolean isEditorPick = editorPickPostIds.contains(post.getPostId());
-                    boolean isPopular = forcedPopularPostIds.contains(post.getPostId())
-                            || (!isEditorPick && post.getLikeCount() >= POPULAR_LIKE_THRESHOLD);
-                    boolean isNew = forcedNewPostIds.contains(post.getPostId())
-                            || isNewPost(post, question);
-                    boolean isLiked = likedPostIds.contains(post.getPostId());
-                    boolean isScrapped = savedPostIds.contains(post.getPostId());
-                    return new PostFeedItemDto(
-                            post,
-                            isEditorPick,
-                            isPopular,
-                            isNew,
-                            isLiked,
-                            isScrapped
-                    );
-                })
-                .collect(Collectors.toList());
+        List<PostFeedItemDto> items = new ArrayList<>(posts.size());
+        for (int index = 0; index < posts.size(); index++) {
+            PostSummaryDto post = posts.get(index);
+            boolean isEditorPick = editorPickPostIds.contains(post.postId());
+            boolean isPopular = forcedPopularPostIds.contains(post.postId())
+                    || (!isEditorPick && post.likeCount() >= POPULAR_LIKE_THRESHOLD);
+            boolean isNew = forcedNewPostIds.contains(post.postId())
+                    || isNewPost(post, question);
+            items.add(new PostFeedItemDto(
+                    post,
+                    isEditorPick,
+                    isPopular,
+                    isNew,
+                    relationFlags.isLiked(index),
+                    relationFlags.isScrapped(index)
+            ));
+        }
+        return items;
     }
 
-    private boolean isNewPost(Post post, Question question) {
-        LocalDateTime createdAt = post.getCreatedAt();
+    private boolean isNewPost(PostSummaryDto post, Question question) {
+        LocalDateTime createdAt = post.createdAt();
         return createdAt != null && createdAt.toLocalDate().isEqual(question.getDisplayDate());
     }
 
@@ -461,8 +591,24 @@ public class PostFeedServiceImpl implements PostFeedService {
         }
     }
 
-    @FunctionalInterface
-    private interface RelationFetcher {
-        List<Long> fetch(User user, List<Post> posts);
+    /**
+     * 오늘 피드 커서. rank/postId 가 없으면 고정 노출 글 직후(나머지 목록의 처음)부터 조회한다.
+     */
+    private record TodayCursor(Long rank, Long postId, Set<Long> headPostIds) {
+        private static final TodayCursor EMPTY = new TodayCursor(null, null, Set.of());
+
+        private boolean isBefore(RankedPost rankedPost) {
+            if (rank == null) {
+                return true;
+            }
+            int compared = Long.compare(rankedPost.rank(), rank);
+            return compared > 0 || (compared == 0 && rankedPost.post().postId() > postId);
+        }
+    }
+
+    private record RankedPost(long rank, PostSummaryDto post) {
+        private static final Comparator<RankedPost> ORDER = Comparator
+                .comparingLong(RankedPost::rank)
+                .thenComparingLong(rankedPost -> rankedPost.post().postId());
     }
 }
@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dplay.server.domain.post.dto.PostLikeDto;
 import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.post.entity.PostLike;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostLikeCountBuffer;
 import org.dplay.server.domain.post.repository.PostLikeRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository.Relation;
 import org.dplay.server.domain.post.service.PostLikeService;
 import org.dplay.server.domain.post.service.PostService;
 import org.dplay.server.domain.user.entity.User;
@@ -14,9 +17,9 @@ import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
-import java.util.List;
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 /**
  * PostLike 관련 비즈니스 로직을 처리하는 서비스
@@ -30,6 +33,10 @@ public class PostLikeServiceImpl implements PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final PostService postService;
     private final UserRepository userRepository;
+    private final PostFeedSnapshotRepository postFeedSnapshotRepository;
+    private final PostLikeCountBuffer postLikeCountBuffer;
+    private final PostRelationCacheRepository postRelationCacheRepository;
+    private final Clock clock;
 
     @Override
     @Transactional
@@ -40,20 +47,16 @@ public class PostLikeServiceImpl implements PostLikeService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new DPlayException(ResponseError.USER_NOT_FOUND));
 
-        if (isLiked(post, user)) {
+        // (post_id, user_id) 유니크 제약으로 중복을 막고, 실제로 추가된 경우에만 좋아요 수를 반영
+        if (!postLikeRepository.insertIfAbsent(post.getPostId(), user.getUserId(), LocalDateTime.now(clock))) {
             throw new DPlayException(ResponseError.RESOURCE_ALREADY_EXISTS);
         }
 
-        PostLike postLike = PostLike.builder()
-                .post(post)
-                .user(user)
-                .build();
-        postLikeRepository.save(postLike);
+        int likeCount = applyLikeDelta(post, 1);
+        postRelationCacheRepository.add(user.getUserId(), Relation.LIKE, post.getPostId());
 
-        postService.incrementLikeCount(post);
-
-        log.debug("좋아요 추가 성공 (postId: {}, userId: {}, likeCount: {})", postId, userId, post.getLikeCount());
-        return PostLikeDto.of(post);
+        log.debug("좋아요 추가 성공 (postId: {}, userId: {}, likeCount: {})", postId, userId, likeCount);
+        return PostLikeDto.of(likeCount);
     }
 
     @Override
@@ -65,32 +68,41 @@ public class PostLikeServiceImpl implements PostLikeService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new DPlayException(ResponseError.USER_NOT_FOUND));
 
-        if (!isLiked(post, user)) {
+        int deleted = postLikeRepository.deleteByPostIdAndUserId(post.getPostId(), user.getUserId());
+        if (deleted == 0) {
             throw new DPlayException(ResponseError.TARGET_NOT_FOUND);
         }
 
-        PostLike postLike = postLikeRepository.findByPostAndUser(post, user)
-                .orElseThrow(() -> new DPlayException(ResponseError.TARGET_NOT_FOUND));
-        postLikeRepository.delete(postLike);
-
-        postService.decrementLikeCount(post);
+        int likeCount = applyLikeDelta(post, -1);
+        postRelationCacheRepository.remove(user.getUserId(), Relation.LIKE, post.getPostId());
 
-        log.debug("좋아요 해제 성공 (postId: {}, userId: {}, likeCount: {})", postId, userId, post.getLikeCount());
-        return PostLikeDto.of(post);
+        log.debug("좋아요 해제 성공 (postId: {}, userId: {}, likeCount: {})", postId, userId, likeCount);
+        return PostLikeDto.of(likeCount);
     }
 
     @Override
     @Transactional
     public void deletePostSave(final User user) {
         postLikeRepository.deleteAllByUser(user);
+        postRelationCacheRepository.evict(user.getUserId(), Relation.LIKE);
     }
 
-    @Override
-    public List<Long> findLikedPostIds(User user, List<Post> posts) {
-        if (CollectionUtils.isEmpty(posts)) {
-            return List.of();
-        }
-        return postLikeRepository.findPostIdsByUserAndPosts(user, posts);
+    /**
+     * 좋아요 수 증감분을 쓰기 지연 버퍼와 피드 스냅샷에 반영하고, 사용자에게 보여줄 좋아요 수를 계산합니다.
+     * post 테이블은 버퍼가 주기적으로 일괄 갱신하므로, 응답에는 아직 반영되지 않은 증감분을 덧씌웁니다.
+     * <p>
+     * 반환값은 근사치입니다. post 는 이 트랜잭션에서 읽은 값이고 버퍼에는 커밋 이후에야 더해지므로,
+     * 동시에 들어온 좋아요들은 같은 값을 받을 수 있습니다. 버퍼는 인스턴스마다 따로 있어
+     * 다른 인스턴스에 쌓인 증감분도 보이지 않습니다. 정확한 값은 반영 이후 조회에서 맞춰집니다.
+     */
+    private int applyLikeDelta(Post post, int delta) {
+        Long postId = post.getPostId();
+        long pendingDelta = postLikeCountBuffer.getPendingDelta(postId);
+
+        postLikeCountBuffer.increment(postId, delta);
+        postFeedSnapshotRepository.incrementLikeCount(post.getQuestion().getQuestionId(), postId, delta);
+
+        return (int) Math.max(0, post.getLikeCount() + pendingDelta + delta);
     }
 
     /**
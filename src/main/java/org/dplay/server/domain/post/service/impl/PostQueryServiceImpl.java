@@ -1,10 +1,15 @@
 package org.dplay.server.domain.post.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.entity.Post;
 import org.dplay.server.domain.post.repository.PostRepository;
 import org.dplay.server.domain.post.service.PostQueryService;
+import org.dplay.server.domain.question.repository.QuestionRepository;
+import org.dplay.server.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -15,45 +20,59 @@ import java.util.List;
 public class PostQueryServiceImpl implements PostQueryService {
 
     private final PostRepository postRepository;
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
 
     @Override
     public boolean existsByQuestionAndUser(Long questionId, Long userId) {
         return postRepository.existsByQuestionQuestionIdAndUserUserId(questionId, userId);
     }
 
+    /**
+     * 게시글 작성/삭제 시 갱신되는 Question.postCount 를 읽습니다. (COUNT 쿼리를 실행하지 않음)
+     */
     @Override
     public long countByQuestion(Long questionId) {
-        return postRepository.countByQuestionQuestionId(questionId);
+        return questionRepository.findPostCountByQuestionId(questionId).orElse(0);
     }
 
     @Override
-    public List<Post> findFeedPosts(
+    public List<PostSummaryDto> findFeedPosts(
             Long questionId,
             Long cursorLikeCount,
             Long cursorPostId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     ) {
-        return postRepository.findFeedPosts(questionId, cursorLikeCount, cursorPostId, limit, excludePostIds);
+        return postRepository.findFeedPosts(questionId, cursorLikeCount, cursorPostId, limit, excludeEditorPicks);
     }
 
     @Override
-    public List<Post> findLatestPosts(
+    public List<PostSummaryDto> findLatestPosts(
             Long questionId,
             int limit,
-            List<Long> excludePostIds
+            boolean excludeEditorPicks
     ) {
-        return postRepository.findLatestPosts(questionId, limit, excludePostIds);
+        return postRepository.findLatestPosts(questionId, limit, excludeEditorPicks);
     }
 
+    /**
+     * 피드 스냅샷 생성용 조회입니다. 스냅샷은 TTL 동안 재사용되고, 새 글은 스냅샷이 있을 때만 덧붙으므로
+     * 복제 지연 중인 replica 에서 만들면 그사이 작성된 글이 TTL 동안 빠집니다.
+     * 읽기 전용이 아닌 새 트랜잭션으로 실행해 항상 primary 에서 읽습니다.
+     */
     @Override
-    public List<Post> findAllFeedPosts(Long questionId, List<Long> excludePostIds) {
-        return postRepository.findAllFeedPosts(questionId, excludePostIds);
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PostSummaryDto> findAllFeedPosts(Long questionId, boolean excludeEditorPicks) {
+        return postRepository.findAllFeedPosts(questionId, excludeEditorPicks);
     }
 
+    /**
+     * 게시글 작성/삭제 시 갱신되는 User.postCount 를 읽습니다. (COUNT 쿼리를 실행하지 않음)
+     */
     @Override
     public long countByUser(Long userId) {
-        return postRepository.countByUserUserId(userId);
+        return userRepository.findPostCountByUserId(userId).orElse(0);
     }
 
     @Override
@@ -64,4 +83,12 @@ public class PostQueryServiceImpl implements PostQueryService {
     ) {
         return postRepository.findPostsByUserDesc(userId, cursorPostId, limit);
     }
+
+    @Override
+    public PostRelationFlags findRelationFlags(Long userId, long[] postIds) {
+        if (postIds.length == 0) {
+            return PostRelationFlags.of(postIds);
+        }
+        return postRepository.findRelationFlags(userId, postIds);
+    }
 }
@@ -0,0 +1,73 @@
+package org.dplay.server.domain.post.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.repository.PostLikeRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository.Lookup;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository.Relation;
+import org.dplay.server.domain.post.repository.PostSaveRepository;
+import org.dplay.server.domain.post.service.PostQueryService;
+import org.dplay.server.domain.post.service.PostRelationService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 좋아요/스크랩 여부를 사용자별 Redis Set 으로 판단하는 서비스
+ * <p>
+ * Set 이 없으면 사용자의 전체 좋아요/스크랩 목록을 DB 에서 한 번 읽어 Set 을 만들고,
+ * Redis 를 사용할 수 없으면 해당 페이지의 게시글만 DB 에서 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostRelationServiceImpl implements PostRelationService {
+
+    private final PostRelationCacheRepository postRelationCacheRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostSaveRepository postSaveRepository;
+    private final PostQueryService postQueryService;
+
+    /**
+     * Set 을 다시 만들 때는 DB 조회 전에 읽은 세대로 반영 여부를 판단하므로, DB 조회가 세대를 읽은 뒤의 스냅샷을 보도록
+     * 호출자의 트랜잭션(이미 시작된 스냅샷)에 참여하지 않습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostRelationFlags getRelationFlags(Long userId, long[] postIds) {
+        PostRelationFlags flags = PostRelationFlags.of(postIds);
+        if (postIds.length == 0) {
+            return flags;
+        }
+
+        Lookup liked = postRelationCacheRepository.findMembers(userId, Relation.LIKE, postIds, flags::markLiked);
+        if (liked == Lookup.UNAVAILABLE) {
+            return postQueryService.findRelationFlags(userId, postIds);
+        }
+        if (liked == Lookup.MISS) {
+            rebuild(userId, Relation.LIKE, postLikeRepository::findPostIdsByUserId).forEach(flags::markLiked);
+        }
+
+        Lookup scrapped = postRelationCacheRepository.findMembers(userId, Relation.SAVE, postIds, flags::markScrapped);
+        if (scrapped == Lookup.UNAVAILABLE) {
+            return postQueryService.findRelationFlags(userId, postIds);
+        }
+        if (scrapped == Lookup.MISS) {
+            rebuild(userId, Relation.SAVE, postSaveRepository::findPostIdsByUserId).forEach(flags::markScrapped);
+        }
+
+        return flags;
+    }
+
+    private List<Long> rebuild(Long userId, Relation relation, Function<Long, List<Long>> loader) {
+        // 세대를 DB 조회보다 먼저 읽어야 조회 이후 커밋된 증분 갱신을 감지할 수 있습니다.
+        long generation = postRelationCacheRepository.getGeneration(userId, relation);
+        List<Long> postIds = loader.apply(userId);
+        postRelationCacheRepository.saveAll(userId, relation, generation, postIds);
+        return postIds;
+    }
+}
@@ -4,7 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dplay.server.domain.post.dto.UserPostsResultDto;
 import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.post.entity.PostSave;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository.Relation;
 import org.dplay.server.domain.post.repository.PostRepository;
 import org.dplay.server.domain.post.repository.PostSaveRepository;
 import org.dplay.server.domain.post.service.PostSaveService;
@@ -15,9 +16,10 @@ import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
@@ -35,6 +37,8 @@ public class PostSaveServiceImpl implements PostSaveService {
     private final PostService postService;
     private final PostRepository postRepository;
     private final UserService userService;
+    private final PostRelationCacheRepository postRelationCacheRepository;
+    private final Clock clock;
     private static final int DEFAULT_LIMIT = 20;
     private static final int MAX_LIMIT = 100;
 
@@ -45,19 +49,15 @@ public class PostSaveServiceImpl implements PostSaveService {
 
         User user = userService.getUserById(userId);
 
-        if (isSaved(post, user)) {
+        // (post_id, user_id) 유니크 제약으로 중복을 막고, 실제로 추가된 경우에만 스크랩 수를 반영
+        if (!postSaveRepository.insertIfAbsent(post.getPostId(), user.getUserId(), LocalDateTime.now(clock))) {
             throw new DPlayException(ResponseError.RESOURCE_ALREADY_EXISTS);
         }
 
-        PostSave postSave = PostSave.builder()
-                .post(post)
-                .user(user)
-                .build();
-        postSaveRepository.save(postSave);
+        int saveCount = postService.incrementSaveCount(postId);
+        postRelationCacheRepository.add(user.getUserId(), Relation.SAVE, post.getPostId());
 
-        postService.incrementSaveCount(post);
-
-        log.debug("스크랩 추가 성공 (postId: {}, userId: {}, saveCount: {})", postId, userId, post.getSaveCount());
+        log.debug("스크랩 추가 성공 (postId: {}, userId: {}, saveCount: {})", postId, userId, saveCount);
     }
 
     @Override
@@ -67,31 +67,22 @@ public class PostSaveServiceImpl implements PostSaveService {
 
         User user = userService.getUserById(userId);
 
-        if (!isSaved(post, user)) {
+        int deleted = postSaveRepository.deleteByPostIdAndUserId(post.getPostId(), user.getUserId());
+        if (deleted == 0) {
             throw new DPlayException(ResponseError.TARGET_NOT_FOUND);
         }
 
-        PostSave postSave = postSaveRepository.findByPostAndUser(post, user)
-                .orElseThrow(() -> new DPlayException(ResponseError.TARGET_NOT_FOUND));
-        postSaveRepository.delete(postSave);
-
-        postService.decrementSaveCount(post);
+        int saveCount = postService.decrementSaveCount(postId);
+        postRelationCacheRepository.remove(user.getUserId(), Relation.SAVE, post.getPostId());
 
-        log.debug("스크랩 해제 성공 (postId: {}, userId: {}, saveCount: {})", postId, userId, post.getSaveCount());
+        log.debug("스크랩 해제 성공 (postId: {}, userId: {}, saveCount: {})", postId, userId, saveCount);
     }
 
     @Override
     @Transactional
     public void deletePostSave(final User user) {
         postSaveRepository.deleteAllByUser(user);
-    }
-
-    @Override
-    public List<Long> findScrappedPostIds(User user, List<Post> posts) {
-        if (CollectionUtils.isEmpty(posts)) {
-            return List.of();
-        }
-        return postSaveRepository.findPostIdsByUserAndPosts(user, posts);
+        postRelationCacheRepository.evict(user.getUserId(), Relation.SAVE);
     }
 
     /**
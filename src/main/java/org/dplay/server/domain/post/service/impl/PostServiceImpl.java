@@ -4,13 +4,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dplay.server.domain.post.dto.PostDto;
 import org.dplay.server.domain.post.dto.PostLikeResultDto;
+import org.dplay.server.domain.post.dto.PostRelationFlags;
 import org.dplay.server.domain.post.dto.PostResultDto;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.dto.UserPostsResultDto;
 import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.post.repository.PostLikeRepository;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostLikeCountBuffer;
 import org.dplay.server.domain.post.repository.PostRepository;
-import org.dplay.server.domain.post.repository.PostSaveRepository;
+import org.dplay.server.domain.post.service.PostCountService;
 import org.dplay.server.domain.post.service.PostQueryService;
+import org.dplay.server.domain.post.service.PostRelationService;
 import org.dplay.server.domain.post.service.PostService;
 import org.dplay.server.domain.question.entity.Question;
 import org.dplay.server.domain.question.service.QuestionEditorPickService;
@@ -23,7 +27,10 @@ import org.dplay.server.domain.user.entity.User;
 import org.dplay.server.domain.user.service.UserService;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.ReadFanOutExecutor;
+import org.dplay.server.global.util.ReadFanOutExecutor.Subtask;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
@@ -40,14 +47,17 @@ import java.util.List;
 public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final PostSaveRepository postSaveRepository;
+    private final PostRelationService postRelationService;
     private final PostQueryService postQueryService;
     private final QuestionEditorPickService questionEditorPickService;
     private final TrackService trackService;
     private final QuestionService questionService;
     private final Clock clock;
     private final UserService userService;
+    private final PostFeedSnapshotRepository postFeedSnapshotRepository;
+    private final PostLikeCountBuffer postLikeCountBuffer;
+    private final PostCountService postCountService;
+    private final ReadFanOutExecutor readFanOutExecutor;
     private static final String DEFAULT_STOREFRONT = "kr";
     private static final int DEFAULT_LIMIT = 20;
     private static final int MAX_LIMIT = 100;
@@ -71,6 +81,8 @@ public class PostServiceImpl implements PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
+        postCountService.increase(question.getQuestionId(), userId);
+        postFeedSnapshotRepository.addPost(question.getQuestionId(), PostSummaryDto.from(savedPost));
 
         return PostDto.of(savedPost);
     }
@@ -78,7 +90,10 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public void deletePost(User user) {
+        List<Long> questionIds = postRepository.findQuestionIdsByUser(user);
         postRepository.deleteAllByUser(user);
+        postCountService.recountQuestions(questionIds);
+        postFeedSnapshotRepository.evictAll(questionIds);
     }
 
     @Override
@@ -89,34 +104,32 @@ public class PostServiceImpl implements PostService {
         isPostUser(userId, post);
 
         postRepository.delete(post);
+        postCountService.decrease(post.getQuestion().getQuestionId(), post.getUser().getUserId());
+        postFeedSnapshotRepository.removePost(post.getQuestion().getQuestionId(), post.getPostId());
     }
 
     @Override
     @Transactional
-    public void incrementLikeCount(Post post) {
-        post.incrementLikeCount();
-        postRepository.save(post);
+    public int incrementSaveCount(final long postId) {
+        return updateSaveCount(postId, 1);
     }
 
     @Override
     @Transactional
-    public void decrementLikeCount(Post post) {
-        post.decrementLikeCount();
-        postRepository.save(post);
+    public int decrementSaveCount(final long postId) {
+        return updateSaveCount(postId, -1);
     }
 
-    @Override
-    @Transactional
-    public void incrementSaveCount(Post post) {
-        post.incrementSaveCount();
-        postRepository.save(post);
-    }
-
-    @Override
-    @Transactional
-    public void decrementSaveCount(Post post) {
-        post.decrementSaveCount();
-        postRepository.save(post);
+    /**
+     * UPDATE 문 안에서 증감하므로 동시 요청에도 유실되지 않으며,
+     * 같은 트랜잭션에서 행 잠금을 쥔 채 다시 읽으므로 반환값은 이번 증감이 반영된 값입니다.
+     * (좋아요 수는 {@link PostLikeCountBuffer} 가 모아서 반영합니다)
+     */
+    private int updateSaveCount(final long postId, final int delta) {
+        if (postRepository.addSaveCount(postId, delta) == 0) {
+            throw new DPlayException(ResponseError.TARGET_NOT_FOUND);
+        }
+        return postRepository.findSaveCountByPostId(postId);
     }
 
     @Override
@@ -125,37 +138,69 @@ public class PostServiceImpl implements PostService {
                 .orElseThrow(() -> new DPlayException(ResponseError.TARGET_NOT_FOUND));
     }
 
+    /**
+     * 게시글을 읽은 뒤 접근 권한 확인 조회를 동시에 실행하고, 권한이 확인되면 트랙 상세(Apple Music 호출 가능)와
+     * 좋아요/스크랩 여부를 동시에 조회합니다.
+     * 조회마다 작업 스레드에서 각자의 트랜잭션을 사용합니다.
+     * 요청 스레드는 게시글 조회에 쓴 커넥션을 open-in-view 로 요청이 끝날 때까지 유지하므로,
+     * 병렬 조회 중에는 요청 하나가 커넥션을 최대 (1 + 작업 수)개 사용합니다. (풀 크기는 AsyncConfig 참고)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResultDto getPostDetailByPostId(final long postId, final long userId) {
         Post post = findByPostId(postId);
+        // 지연 로딩 프록시는 요청 스레드의 영속성 컨텍스트에 묶여 있으므로 작업 스레드로 넘기기 전에 값을 꺼냅니다.
+        Long questionId = post.getQuestion().getQuestionId();
+        String trackId = post.getTrack().getTrackId();
+
+        boolean userExists;
+        boolean isEditorPick;
+        boolean hasWrittenPostForQuestion;
+        try (ReadFanOutExecutor.Scope scope = readFanOutExecutor.open()) {
+            Subtask<Boolean> editorPickTask = scope.fork(() -> questionEditorPickService.existsByPost(post));
+            Subtask<Boolean> hasWrittenTask = scope.fork(() -> postRepository.existsByQuestionQuestionIdAndUserUserId(
+                    questionId,
+                    userId
+            ));
+            // 탈퇴 등으로 없는 사용자의 요청은 접근 권한 확인보다 먼저 USER_NOT_FOUND 로 응답합니다.
+            Subtask<Boolean> userExistsTask = scope.fork(() -> userService.existsById(userId));
+            scope.join();
+
+            userExists = userExistsTask.get();
+            isEditorPick = editorPickTask.get();
+            hasWrittenPostForQuestion = hasWrittenTask.get();
+        }
 
-        boolean isEditorPick = questionEditorPickService.existsByPost(post);
-        Question postQuestion = post.getQuestion();
+        if (!userExists) {
+            throw new DPlayException(ResponseError.USER_NOT_FOUND);
+        }
 
-        if (!isEditorPick) {
-            boolean hasWrittenPostForQuestion = postRepository.existsByQuestionQuestionIdAndUserUserId(
-                    postQuestion.getQuestionId(),
-                    userId
-            );
+        // 접근 권한이 없으면 트랙 상세(Apple Music 호출 가능)와 좋아요/스크랩 여부는 조회하지 않습니다.
+        if (!isEditorPick && !hasWrittenPostForQuestion) {
+            throw new DPlayException(ResponseError.FORBIDDEN_RESOURCE);
+        }
 
-            if (!hasWrittenPostForQuestion) {
-                throw new DPlayException(ResponseError.FORBIDDEN_RESOURCE);
-            }
+        TrackDetailResultDto trackDetailResultDto;
+        PostRelationFlags relationFlags;
+        try (ReadFanOutExecutor.Scope scope = readFanOutExecutor.open()) {
+            Subtask<TrackDetailResultDto> trackTask =
+                    scope.fork(() -> trackService.getTrackDetail(trackId, DEFAULT_STOREFRONT));
+            Subtask<PostRelationFlags> relationTask =
+                    scope.fork(() -> postRelationService.getRelationFlags(userId, new long[]{postId}));
+            scope.join();
+
+            trackDetailResultDto = trackTask.get();
+            relationFlags = relationTask.get();
         }
 
-        User currentUser = userService.getUserById(userId);
         User postAuthor = post.getUser();
         UserDetailResultDto userDetailResultDto = UserDetailResultDto.from(postAuthor);
 
-        TrackDetailResultDto trackDetailResultDto = trackService.getTrackDetail(
-                post.getTrack().getTrackId(),
-                DEFAULT_STOREFRONT
-        );
-
         boolean isHost = isPostHost(userId, post);
-        boolean isScrapped = postSaveRepository.existsByPostAndUser(post, currentUser);
-        boolean isLiked = postLikeRepository.existsByPostAndUser(post, currentUser);
-        PostLikeResultDto postLikeResultDto = PostLikeResultDto.of(isLiked, post);
+        boolean isScrapped = relationFlags.isScrapped(0);
+        boolean isLiked = relationFlags.isLiked(0);
+        int likeCount = (int) Math.max(0, post.getLikeCount() + postLikeCountBuffer.getPendingDelta(post.getPostId()));
+        PostLikeResultDto postLikeResultDto = PostLikeResultDto.of(isLiked, likeCount);
 
         return PostResultDto.of(
                 post,
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.dplay.server.domain.common.BaseTimeEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -21,6 +23,7 @@ import java.time.LocalDate;
                 @Index(name = "uk_question_date", columnList = "display_date", unique = true)
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "question")
 public class Question extends BaseTimeEntity {
 
     @Id
@@ -33,7 +36,11 @@ public class Question extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalDate displayDate;
 
-    @Column(nullable = false)
+    /**
+     * 2차 캐시에 올라간 엔티티의 값은 최신이 아닐 수 있으므로 QuestionRepository#findPostCountByQuestionId 로 조회합니다.
+     * 갱신은 QuestionRepository 의 UPDATE 문으로만 합니다. (updatable = false)
+     */
+    @Column(nullable = false, updatable = false)
     private int postCount = 0;
 
     @Builder
@@ -7,11 +7,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.dplay.server.domain.common.BaseTimeEntity;
 import org.dplay.server.domain.post.entity.Post;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table
+@Table(
+        indexes = {
+                @Index(name = "idx_question_editor_pick_post", columnList = "post_id"),
+                @Index(name = "idx_question_editor_pick_question_position", columnList = "question_id, position")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "question-editor-pick")
 public class QuestionEditorPick extends BaseTimeEntity {
 
     @Id
@@ -2,12 +2,19 @@ package org.dplay.server.domain.question.repository;
 
 import org.dplay.server.domain.post.entity.Post;
 import org.dplay.server.domain.question.entity.QuestionEditorPick;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface QuestionEditorPickRepository extends JpaRepository<QuestionEditorPick, Long> {
 
+    /**
+     * 에디터픽을 게시글, 작성자, 트랙과 함께 한 번의 쿼리로 조회합니다.
+     * <p>
+     * 쿼리 캐시는 루트 엔티티의 id 만 보관하므로, 캐시 적중 시 게시글을 에디터픽마다 다시 조회하게 되어 적용하지 않습니다.
+     */
+    @EntityGraph(attributePaths = {"post", "post.user", "post.track", "post.question"})
     List<QuestionEditorPick> findByQuestionQuestionIdOrderByPositionAsc(Long questionId);
 
     boolean existsByPost(Post post);
@@ -1,14 +1,76 @@
 package org.dplay.server.domain.question.repository;
 
+import jakarta.persistence.QueryHint;
 import org.dplay.server.domain.question.entity.Question;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+    /**
+     * findByDisplayDate 결과를 보관하는 쿼리 캐시 영역
+     */
+    String DISPLAY_DATE_QUERY_REGION = "question-by-display-date";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = DISPLAY_DATE_QUERY_REGION)
+    })
     Optional<Question> findByDisplayDate(LocalDate displayDate);
 
+    /**
+     * 쿼리 캐시를 거치지 않고 해당 날짜의 질문이 등록되어 있는지 확인합니다.
+     */
+    boolean existsByDisplayDate(LocalDate displayDate);
+
     List<Question> findByDisplayDateBetweenOrderByDisplayDateAsc(LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT q.postCount FROM Question q WHERE q.questionId = :questionId")
+    Optional<Integer> findPostCountByQuestionId(@Param("questionId") Long questionId);
+
+    /**
+     * 게시글 수를 단일 UPDATE 문으로 증감합니다. (0 미만으로 내려가지 않음)
+     * <p>
+     * JPQL 벌크 UPDATE 는 Question 2차 캐시 영역과 question 테이블을 참조하는 쿼리 캐시를 모두 무효화하므로,
+     * 게시글이 작성될 때마다 캐시가 비워지지 않도록 question 과 무관한 query space 를 지정한 네이티브 쿼리로 갱신합니다.
+     *
+     * @param questionId 질문 ID
+     * @param delta      증감량
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE question SET post_count = CASE WHEN post_count + :delta < 0 THEN 0 ELSE post_count + :delta END "
+            + "WHERE question_id = :questionId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question_post_count"))
+    int addPostCount(@Param("questionId") Long questionId, @Param("delta") int delta);
+
+    /**
+     * 지정한 질문들의 게시글 수를 실제 게시글 수로 다시 계산합니다.
+     *
+     * @param questionIds 질문 ID 목록
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Question q SET q.postCount = (SELECT COUNT(p) FROM Post p WHERE p.question = q) "
+            + "WHERE q.questionId IN :questionIds")
+    int recountPostCounts(@Param("questionIds") Collection<Long> questionIds);
+
+    /**
+     * 실제 게시글 수와 다른 질문만 다시 계산합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Question q SET q.postCount = (SELECT COUNT(p) FROM Post p WHERE p.question = q) "
+            + "WHERE q.postCount <> (SELECT COUNT(p2) FROM Post p2 WHERE p2.question = q)")
+    int reconcilePostCounts();
 }
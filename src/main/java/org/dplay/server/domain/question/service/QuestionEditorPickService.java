@@ -9,5 +9,13 @@ public interface QuestionEditorPickService {
 
     List<QuestionEditorPick> getOrderedEditorPicks(Long questionId);
 
+    /**
+     * 에디터픽을 게시글, 작성자, 트랙과 함께 읽어 적재해 두고, 이후 같은 질문의 조회에 잠시 재사용합니다.
+     *
+     * @param questionId 적재할 질문 ID
+     * @return 적재한 에디터픽 목록
+     */
+    List<QuestionEditorPick> prewarmEditorPicks(Long questionId);
+
     boolean existsByPost(Post post);
 }
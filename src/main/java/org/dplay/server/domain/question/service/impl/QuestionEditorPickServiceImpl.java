@@ -1,29 +1,67 @@
 package org.dplay.server.domain.question.service.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.dplay.server.domain.post.entity.Post;
 import org.dplay.server.domain.question.entity.QuestionEditorPick;
 import org.dplay.server.domain.question.repository.QuestionEditorPickRepository;
 import org.dplay.server.domain.question.service.QuestionEditorPickService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuestionEditorPickServiceImpl implements QuestionEditorPickService {
 
+    private final Clock clock;
     private final QuestionEditorPickRepository questionEditorPickRepository;
+    private final Duration prewarmedTtl;
+
+    /**
+     * 자정 직전에 미리 적재한 다음 질문의 에디터픽 (게시글, 작성자, 트랙 포함)
+     * <p>
+     * questionId 를 키로 하므로 현재 질문의 조회에는 쓰이지 않다가, 자정이 지나 다음 질문이 조회되는 순간부터 사용됩니다.
+     * 참조 하나를 통째로 바꾸므로 요청은 이전 적재분이나 새 적재분 중 하나만 봅니다.
+     * 좋아요 수 등은 적재 시점 값이므로 TTL 이 지나면 다시 DB 에서 조회합니다.
+     */
+    private volatile PrewarmedEditorPicks prewarmed;
+
+    public QuestionEditorPickServiceImpl(
+            Clock clock,
+            QuestionEditorPickRepository questionEditorPickRepository,
+            @Value("${feed.prewarm.editor-pick-ttl:PT5M}") Duration prewarmedTtl
+    ) {
+        this.clock = clock;
+        this.questionEditorPickRepository = questionEditorPickRepository;
+        this.prewarmedTtl = prewarmedTtl;
+    }
 
     @Override
     public List<QuestionEditorPick> getOrderedEditorPicks(Long questionId) {
+        PrewarmedEditorPicks current = prewarmed;
+        if (current != null && current.questionId().equals(questionId) && clock.instant().isBefore(current.expiresAt())) {
+            return current.editorPicks();
+        }
         return questionEditorPickRepository.findByQuestionQuestionIdOrderByPositionAsc(questionId);
     }
 
+    @Override
+    public List<QuestionEditorPick> prewarmEditorPicks(Long questionId) {
+        List<QuestionEditorPick> editorPicks =
+                List.copyOf(questionEditorPickRepository.findByQuestionQuestionIdOrderByPositionAsc(questionId));
+        prewarmed = new PrewarmedEditorPicks(questionId, editorPicks, clock.instant().plus(prewarmedTtl));
+        return editorPicks;
+    }
+
     @Override
     public boolean existsByPost(Post post) {
         return questionEditorPickRepository.existsByPost(post);
     }
+
+    private record PrewarmedEditorPicks(Long questionId, List<QuestionEditorPick> editorPicks, Instant expiresAt) {
+    }
 }
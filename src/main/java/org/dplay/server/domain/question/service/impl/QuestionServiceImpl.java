@@ -1,5 +1,6 @@
 package org.dplay.server.domain.question.service.impl;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dplay.server.domain.question.dto.QuestionDto;
@@ -8,22 +9,25 @@ import org.dplay.server.domain.question.repository.QuestionRepository;
 import org.dplay.server.domain.question.service.QuestionService;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.hibernate.SessionFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
+@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuestionServiceImpl implements QuestionService {
 
     private final Clock clock;
     private final QuestionRepository questionRepository;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public QuestionDto getTodayQuestion() {
@@ -31,10 +35,20 @@ public class QuestionServiceImpl implements QuestionService {
         return QuestionDto.of(question);
     }
 
+    /**
+     * 날짜별 질문은 쿼리 캐시로 조회합니다.
+     * 질문은 애플리케이션 밖에서 등록되므로, 캐시에 빈 결과가 남아 있는 동안 질문이 등록되면 캐시만으로는 알 수 없습니다.
+     * 캐시에서 찾지 못한 경우에만 캐시를 거치지 않고 존재 여부를 확인해, 그 사이 질문이 등록되었을 때만 쿼리 캐시 영역을 비우고 다시 조회합니다.
+     */
     @Override
     public Question getQuestionByDate(LocalDate date) {
-        return questionRepository.findByDisplayDate(date)
-                .orElseThrow(() -> new DPlayException(ResponseError.QUESTION_NOT_FOUND));
+        Optional<Question> question = questionRepository.findByDisplayDate(date);
+        if (question.isEmpty() && questionRepository.existsByDisplayDate(date)) {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                    .evictQueryRegion(QuestionRepository.DISPLAY_DATE_QUERY_REGION);
+            question = questionRepository.findByDisplayDate(date);
+        }
+        return question.orElseThrow(() -> new DPlayException(ResponseError.QUESTION_NOT_FOUND));
     }
 
     @Override
@@ -6,6 +6,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.dplay.server.domain.common.BaseTimeEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -16,12 +22,15 @@ import org.dplay.server.domain.common.BaseTimeEntity;
                 @Index(name = "idx_track_artist", columnList = "artist_name")
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "track")
+@NaturalIdCache(region = "track-natural-id")
 public class Track extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(name = "track_id", nullable = false, unique = true)
     private String trackId;
 
@@ -41,6 +50,16 @@ public class Track extends BaseTimeEntity {
 
     private String previewUrl;
 
+    /**
+     * Apple Music 아트워크 URL 템플릿 ({w}, {h} 치환)
+     */
+    private String artworkUrl;
+
+    /**
+     * Apple Music 메타데이터(앨범, 재생 시간, 미리듣기, 아트워크)를 마지막으로 동기화한 시각
+     */
+    private LocalDateTime metadataSyncedAt;
+
     @Builder
     private Track(
             String trackId,
@@ -61,6 +80,23 @@ public class Track extends BaseTimeEntity {
         this.isrc = isrc;
         this.previewUrl = previewUrl;
     }
+
+    /**
+     * Apple Music에서 조회한 메타데이터로 갱신합니다.
+     */
+    public void updateMetadata(
+            String albumName,
+            Long durationMs,
+            String previewUrl,
+            String artworkUrl,
+            LocalDateTime syncedAt
+    ) {
+        this.albumName = albumName;
+        this.durationMs = durationMs;
+        this.previewUrl = previewUrl;
+        this.artworkUrl = artworkUrl;
+        this.metadataSyncedAt = syncedAt;
+    }
 }
 
 
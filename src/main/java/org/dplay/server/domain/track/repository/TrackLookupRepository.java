@@ -0,0 +1,10 @@
+package org.dplay.server.domain.track.repository;
+
+import org.dplay.server.domain.track.entity.Track;
+
+import java.util.Optional;
+
+public interface TrackLookupRepository {
+
+    Optional<Track> findByTrackId(String trackId);
+}
@@ -0,0 +1,28 @@
+package org.dplay.server.domain.track.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.dplay.server.domain.track.entity.Track;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public class TrackLookupRepositoryImpl implements TrackLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * trackId(natural id)로 Track 을 조회합니다.
+     * 파생 쿼리(WHERE track_id = ?)는 2차 캐시를 거치지 않으므로 natural id 캐시 → 엔티티 캐시 순으로 조회하고,
+     * 캐시에 없을 때만 DB 를 조회합니다.
+     */
+    @Override
+    public Optional<Track> findByTrackId(String trackId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Track.class)
+                .loadOptional(trackId);
+    }
+}
@@ -3,10 +3,10 @@ package org.dplay.server.domain.track.repository;
 import org.dplay.server.domain.track.entity.Track;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
-public interface TrackRepository extends JpaRepository<Track, Long> {
-    Optional<Track> findByTrackId(String trackId);
-}
+import java.util.Collection;
+import java.util.List;
 
+public interface TrackRepository extends JpaRepository<Track, Long>, TrackLookupRepository {
 
+    List<Track> findByTrackIdIn(Collection<String> trackIds);
+}
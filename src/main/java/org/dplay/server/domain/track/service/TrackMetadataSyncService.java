@@ -0,0 +1,12 @@
+package org.dplay.server.domain.track.service;
+
+import org.dplay.server.domain.music.openfeign.apple.service.AppleMusicService.MusicTrackMetadataResult;
+import org.dplay.server.domain.track.entity.Track;
+
+public interface TrackMetadataSyncService {
+    boolean needsSync(Track track);
+
+    void requestSync(String trackId, String storefront);
+
+    void requestSave(String trackId, MusicTrackMetadataResult metadata);
+}
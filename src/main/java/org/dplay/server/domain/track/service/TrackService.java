@@ -5,6 +5,7 @@ import org.dplay.server.domain.track.dto.TrackPreviewResultDto;
 import org.dplay.server.domain.track.dto.TrackSearchResultDto;
 import org.dplay.server.domain.track.entity.Track;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TrackService {
@@ -18,5 +19,7 @@ public interface TrackService {
 
     TrackDetailResultDto getTrackDetail(String trackId, String storefront);
 
+    List<TrackDetailResultDto> getTrackDetails(List<String> trackIds, String storefront);
+
     TrackPreviewResultDto getPreview(String trackId, String storefront);
 }
@@ -0,0 +1,140 @@
+package org.dplay.server.domain.track.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.domain.music.openfeign.apple.service.AppleMusicService;
+import org.dplay.server.domain.music.openfeign.apple.service.AppleMusicService.MusicTrackMetadataResult;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.track.service.TrackMetadataSyncService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Track 메타데이터(앨범, 재생 시간, 미리듣기, 아트워크)를 Apple Music에서 비동기로 채우는 서비스
+ * <p>
+ * 요청 스레드는 작업을 등록만 하고, 실제 조회와 저장은 trackMetadataExecutor에서 수행합니다.
+ * 같은 트랙에 대한 작업은 동시에 하나만 등록되며, 트랜잭션 안에서 요청되면 커밋 이후에 실행됩니다.
+ */
+@Slf4j
+@Service
+public class TrackMetadataSyncServiceImpl implements TrackMetadataSyncService {
+
+    private final TrackRepository trackRepository;
+    private final AppleMusicService appleMusicService;
+    private final TaskExecutor trackMetadataExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration staleAfter;
+    private final Set<String> pendingTrackIds = ConcurrentHashMap.newKeySet();
+
+    public TrackMetadataSyncServiceImpl(
+            TrackRepository trackRepository,
+            AppleMusicService appleMusicService,
+            @Qualifier("trackMetadataExecutor") TaskExecutor trackMetadataExecutor,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${track.metadata.stale-after:P7D}") Duration staleAfter
+    ) {
+        this.trackRepository = trackRepository;
+        this.appleMusicService = appleMusicService;
+        this.trackMetadataExecutor = trackMetadataExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * 메타데이터를 한 번도 동기화하지 않았거나 stale-after 가 지난 경우 true 를 반환합니다.
+     */
+    @Override
+    public boolean needsSync(Track track) {
+        LocalDateTime syncedAt = track.getMetadataSyncedAt();
+        return syncedAt == null || syncedAt.isBefore(LocalDateTime.now(clock).minus(staleAfter));
+    }
+
+    /**
+     * Apple Music에서 메타데이터를 조회해 저장하는 작업을 등록합니다.
+     */
+    @Override
+    public void requestSync(String trackId, String storefront) {
+        submit(trackId, () -> appleMusicService.getTrackMetadata(trackId, storefront));
+    }
+
+    /**
+     * 요청 처리 중 이미 조회한 메타데이터를 저장하는 작업을 등록합니다.
+     */
+    @Override
+    public void requestSave(String trackId, MusicTrackMetadataResult metadata) {
+        submit(trackId, () -> metadata);
+    }
+
+    private void submit(String trackId, Supplier<MusicTrackMetadataResult> metadataLoader) {
+        if (!pendingTrackIds.add(trackId)) {
+            return;
+        }
+        runAfterCommit(
+                () -> {
+                    try {
+                        trackMetadataExecutor.execute(() -> sync(trackId, metadataLoader));
+                    } catch (TaskRejectedException e) {
+                        pendingTrackIds.remove(trackId);
+                        log.warn("Track 메타데이터 동기화 작업이 거절되었습니다 (trackId: {})", trackId);
+                    }
+                },
+                () -> pendingTrackIds.remove(trackId)
+        );
+    }
+
+    private void sync(String trackId, Supplier<MusicTrackMetadataResult> metadataLoader) {
+        try {
+            MusicTrackMetadataResult metadata = metadataLoader.get();
+            transactionTemplate.executeWithoutResult(status ->
+                    trackRepository.findByTrackId(trackId).ifPresent(track -> track.updateMetadata(
+                            metadata.albumName(),
+                            metadata.durationMs(),
+                            metadata.previewUrl(),
+                            metadata.artworkUrl(),
+                            LocalDateTime.now(clock)
+                    ))
+            );
+            log.debug("Track 메타데이터 동기화 완료 (trackId: {})", trackId);
+        } catch (RuntimeException e) {
+            log.warn("Track 메타데이터 동기화 실패 (trackId: {})", trackId, e);
+        } finally {
+            pendingTrackIds.remove(trackId);
+        }
+    }
+
+    private void runAfterCommit(Runnable action, Runnable onRollback) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    } else {
+                        onRollback.run();
+                    }
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -8,15 +8,21 @@ import org.dplay.server.domain.track.dto.TrackPreviewResultDto;
 import org.dplay.server.domain.track.dto.TrackSearchResultDto;
 import org.dplay.server.domain.track.entity.Track;
 import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.track.service.TrackMetadataSyncService;
 import org.dplay.server.domain.track.service.TrackService;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +34,7 @@ public class TrackServiceImpl implements TrackService {
 
     private final TrackRepository trackRepository;
     private final AppleMusicService appleMusicService;
+    private final TrackMetadataSyncService trackMetadataSyncService;
     private static final String DEFAULT_STOREFRONT = "kr";
     private static final int DEFAULT_LIMIT = 20;
     private static final int MAX_LIMIT = 50;
@@ -111,7 +118,10 @@ public class TrackServiceImpl implements TrackService {
                 .isrc(isrc)
                 .build();
 
-        return trackRepository.save(track);
+        Track savedTrack = trackRepository.save(track);
+        // 앨범, 재생 시간, 미리듣기, 아트워크는 커밋 이후 비동기로 채움
+        trackMetadataSyncService.requestSync(trackId, DEFAULT_STOREFRONT);
+        return savedTrack;
     }
 
     @Override
@@ -160,6 +170,7 @@ public class TrackServiceImpl implements TrackService {
         if (trackOptional.isPresent()) {
             Track track = trackOptional.get();
             log.debug("Track 정보를 DB에서 조회 (trackId: {})", trackId);
+            refreshIfStale(track, storefront);
             return TrackDetailResultDto.of(
                     track.getTrackId(),
                     track.getSongTitle(),
@@ -187,23 +198,94 @@ public class TrackServiceImpl implements TrackService {
         );
     }
 
+    /**
+     * 여러 트랙의 상세 정보를 한 번에 조회합니다.
+     * DB에 있는 트랙은 IN 쿼리 한 번으로, 없는 트랙은 Apple Music 다건 조회로 가져오며 요청 순서를 유지합니다.
+     * 어디에서도 찾을 수 없는 트랙은 결과에서 제외됩니다.
+     */
+    @Override
+    public List<TrackDetailResultDto> getTrackDetails(List<String> trackIds, String storefront) {
+        if (CollectionUtils.isEmpty(trackIds)) {
+            return List.of();
+        }
+        List<String> distinctTrackIds = trackIds.stream().distinct().toList();
+        String finalStorefront = storefront != null && !storefront.isEmpty() ? storefront : DEFAULT_STOREFRONT;
+
+        // 1. DB에서 한 번에 조회
+        Map<String, TrackDetailResultDto> details = new HashMap<>();
+        for (Track track : trackRepository.findByTrackIdIn(distinctTrackIds)) {
+            refreshIfStale(track, finalStorefront);
+            details.put(track.getTrackId(), TrackDetailResultDto.of(
+                    track.getTrackId(),
+                    track.getSongTitle(),
+                    track.getArtistName(),
+                    track.getCoverImg(),
+                    track.getIsrc()
+            ));
+        }
+
+        // 2. DB에 없는 트랙만 Apple Music에서 묶어서 조회
+        List<String> missingTrackIds = distinctTrackIds.stream()
+                .filter(trackId -> !details.containsKey(trackId))
+                .toList();
+        if (!missingTrackIds.isEmpty()) {
+            log.debug("Track 정보를 Apple Music API에서 다건 조회 (count: {})", missingTrackIds.size());
+            for (AppleMusicService.MusicTrackDetailResult result
+                    : appleMusicService.getTrackDetails(missingTrackIds, finalStorefront)) {
+                details.put(result.trackId(), TrackDetailResultDto.of(
+                        result.trackId(),
+                        result.songTitle(),
+                        result.artistName(),
+                        result.coverImg(),
+                        result.isrc()
+                ));
+            }
+        }
+
+        return distinctTrackIds.stream()
+                .map(details::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public TrackPreviewResultDto getPreview(String trackId, String storefront) {
         String finalStorefront = storefront != null && !storefront.isEmpty() ? storefront : DEFAULT_STOREFRONT;
 
-        // Apple Music API 호출
-        AppleMusicService.MusicPreviewResult result = appleMusicService.getTrackPreview(
-                trackId,
-                finalStorefront
-        );
+        String streamUrl;
+        Optional<Track> trackOptional = trackRepository.findByTrackId(trackId);
+        if (trackOptional.isPresent() && trackOptional.get().getMetadataSyncedAt() != null) {
+            // 1. 메타데이터가 채워진 트랙은 DB에서 바로 반환 (오래된 경우 비동기 갱신)
+            Track track = trackOptional.get();
+            refreshIfStale(track, finalStorefront);
+            streamUrl = track.getPreviewUrl();
+        } else {
+            // 2. DB에 없거나 아직 채워지지 않은 트랙은 Apple Music API 호출
+            AppleMusicService.MusicTrackMetadataResult metadata = appleMusicService.getTrackMetadata(
+                    trackId,
+                    finalStorefront
+            );
+            trackOptional.ifPresent(track -> trackMetadataSyncService.requestSave(trackId, metadata));
+            streamUrl = metadata.previewUrl();
+        }
 
         // sessionId 생성 (로깅 및 트래킹용)
         String sessionId = "pvw_" + UUID.randomUUID().toString().replace("-", "");
 
         return TrackPreviewResultDto.of(
                 sessionId,
-                result.trackId(),
-                result.streamUrl()
+                trackId,
+                streamUrl
         );
     }
+
+    /**
+     * 메타데이터가 오래된 트랙이면 비동기 갱신을 요청합니다. 응답은 기존 DB 값으로 바로 반환합니다.
+     */
+    private void refreshIfStale(Track track, String storefront) {
+        if (trackMetadataSyncService.needsSync(track)) {
+            String finalStorefront = storefront != null && !storefront.isEmpty() ? storefront : DEFAULT_STOREFRONT;
+            trackMetadataSyncService.requestSync(track.getTrackId(), finalStorefront);
+        }
+    }
 }
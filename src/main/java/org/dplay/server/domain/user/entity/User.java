@@ -36,26 +36,27 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private Platform platform;
 
-    @Lob
-    private String refreshToken;
-
     @Column(nullable = false)
     private boolean pushOn = false;
 
+    /**
+     * UserRepository 의 UPDATE 문으로만 갱신합니다. (엔티티 변경 감지로 덮어쓰지 않도록 updatable = false)
+     */
+    @Column(nullable = false, updatable = false)
+    private int postCount = 0;
+
     @Builder
     private User(
             String nickname,
             String profileImg,
             String platformId,
             Platform platform,
-            String refreshToken,
             boolean pushOn
     ) {
         this.nickname = nickname;
         this.profileImg = profileImg;
         this.platformId = platformId;
         this.platform = platform;
-        this.refreshToken = refreshToken;
         this.pushOn = pushOn;
     }
 
@@ -63,10 +64,6 @@ public class User extends BaseTimeEntity {
         this.pushOn = pushOn;
     }
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
     public void updateProfileImg(String profileImg) {
         this.profileImg = profileImg;
     }
@@ -74,10 +71,6 @@ public class User extends BaseTimeEntity {
     public void updateNickname(String nickname) {
         this.nickname = nickname;
     }
-
-    public boolean validateRefreshToken(String refreshToken) {
-        return this.refreshToken.equals(refreshToken);
-    }
 }
 
 
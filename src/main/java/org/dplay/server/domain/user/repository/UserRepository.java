@@ -3,6 +3,9 @@ package org.dplay.server.domain.user.repository;
 import org.dplay.server.domain.user.Platform;
 import org.dplay.server.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,5 +17,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByPlatformIdAndPlatform(String platformId, Platform Platform);
 
-    Optional<User> findByRefreshToken(String refreshToken);
+    @Query("SELECT u.postCount FROM User u WHERE u.userId = :userId")
+    Optional<Integer> findPostCountByUserId(@Param("userId") Long userId);
+
+    /**
+     * 작성한 게시글 수를 단일 UPDATE 문으로 증감합니다. (0 미만으로 내려가지 않음)
+     *
+     * @param userId 사용자 ID
+     * @param delta  증감량
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.postCount = CASE WHEN u.postCount + :delta < 0 THEN 0 ELSE u.postCount + :delta END "
+            + "WHERE u.userId = :userId")
+    int addPostCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    /**
+     * 실제 작성한 게시글 수와 다른 사용자만 다시 계산합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.postCount = (SELECT COUNT(p) FROM Post p WHERE p.user = u) "
+            + "WHERE u.postCount <> (SELECT COUNT(p2) FROM Post p2 WHERE p2.user = u)")
+    int reconcilePostCounts();
 }
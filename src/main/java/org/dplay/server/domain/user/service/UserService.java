@@ -19,8 +19,6 @@ public interface UserService {
 
     NotificationDto getNotification(Long userId);
 
-    void removeRefreshToken(Long userId);
-
     void deleteUser(Long userId);
 
     boolean existsByProviderIdAndProvider(String providerId, Platform platform);
@@ -29,9 +27,9 @@ public interface UserService {
 
     User findUserByProviderIdAndProvider(String providerId, Platform platform);
 
-    User findByRefreshToken(final String refreshToken);
-
     User getUserById(Long userId);
 
+    boolean existsById(Long userId);
+
     User makeUser(String platformId, Platform platform, String nickname, MultipartFile profileImg) throws IOException;
 }
@@ -1,7 +1,8 @@
 package org.dplay.server.domain.user.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import org.dplay.server.domain.post.service.PostQueryService;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostRepository;
 import org.dplay.server.domain.s3.S3Service;
 import org.dplay.server.domain.user.Platform;
 import org.dplay.server.domain.user.dto.NotificationDto;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -27,8 +29,9 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final S3Service s3Service;
-    private final PostQueryService postQueryService;
     private final NicknameValidator nicknameValidator;
+    private final PostRepository postRepository;
+    private final PostFeedSnapshotRepository postFeedSnapshotRepository;
 
     @Override
     @Transactional
@@ -44,6 +47,7 @@ public class UserServiceImpl implements UserService {
         } else {
             user.updateProfileImg(profileImgUrl);
         }
+        evictAuthorSnapshots(user);
     }
 
     @Override
@@ -61,6 +65,7 @@ public class UserServiceImpl implements UserService {
             throw new DPlayException(ResponseError.RESOURCE_ALREADY_EXISTS);
         }
         user.updateNickname(nickname);
+        evictAuthorSnapshots(user);
     }
 
     @Override
@@ -80,7 +85,7 @@ public class UserServiceImpl implements UserService {
                 userDetailResultDto,
                 userId.equals(authorizationUserId),
                 user.isPushOn(),
-                postQueryService.countByUser(userId)
+                (long) user.getPostCount()
         );
     }
 
@@ -91,14 +96,6 @@ public class UserServiceImpl implements UserService {
         return NotificationDto.from(user);
     }
 
-    @Override
-    @Transactional
-    public void removeRefreshToken(Long userId) {
-        User user = getUserById(userId);
-
-        user.updateRefreshToken(null);
-    }
-
     @Override
     @Transactional
     public void deleteUser(Long userId) {
@@ -121,14 +118,13 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public User findByRefreshToken(final String refreshToken) {
-        return userRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new DPlayException(ResponseError.INVALID_REFRESH_TOKEN));
+    public User getUserById(Long userId) {
+        return userRepository.findById(userId).orElseThrow(() -> new DPlayException(ResponseError.USER_NOT_FOUND));
     }
 
     @Override
-    public User getUserById(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> new DPlayException(ResponseError.USER_NOT_FOUND));
+    public boolean existsById(Long userId) {
+        return userRepository.existsById(userId);
     }
 
     @Override
@@ -142,4 +138,12 @@ public class UserServiceImpl implements UserService {
 
         return userRepository.save(user);
     }
+
+    /**
+     * 피드 스냅샷에 작성자 닉네임과 프로필 이미지가 함께 저장되므로, 작성한 질문들의 스냅샷을 폐기합니다.
+     */
+    private void evictAuthorSnapshots(User user) {
+        List<Long> questionIds = postRepository.findQuestionIdsByUser(user);
+        postFeedSnapshotRepository.evictAll(questionIds);
+    }
 }
@@ -8,7 +8,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.dplay.server.global.auth.UserAuthentication;
 import org.dplay.server.global.auth.constant.Constant;
-import org.dplay.server.global.auth.jwt.JwtTokenProvider;
 import org.dplay.server.global.auth.jwt.JwtTokenValidator;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -22,7 +21,6 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
     private final JwtTokenValidator jwtTokenValidator;
 
     @Override
@@ -33,8 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String token = getJwtFromRequest(request);
         if (StringUtils.hasText(token)) {
-            jwtTokenValidator.validateAccessToken(token);
-            Long userId = jwtTokenProvider.getUserIdFromJwt(token);
+            Long userId = jwtTokenValidator.getUserIdFromAccessToken(token);
             UserAuthentication authentication = UserAuthentication.createUserAuthentication(userId);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,35 +1,70 @@
 package org.dplay.server.global.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import org.dplay.server.controller.auth.dto.JwtTokenResponse;
 import org.dplay.server.global.auth.constant.Constant;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.HashUtil;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider implements InitializingBean {
+    private static final String TOKEN_TYPE_CLAIM = "tokenType";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     @Value("${jwt.access-expiration}")
     private Long accessTokenExpirationTime;
     @Value("${jwt.refresh-expiration}")
     private Long refreshTokenExpirationTime;
     @Value("${jwt.secret-key}")
     private String secretKey;
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+
+    private final Clock clock;
 
     private Key signingKey;
+    private JwtParser jwtParser;
+
+    /**
+     * 서명 검증을 통과한 액세스 토큰의 SHA-256 해시 → userId 캐시
+     * 각 항목은 토큰 자체의 만료 시각에 함께 만료되므로, 같은 토큰으로 반복되는 요청은 서명 검증을 건너뜁니다.
+     */
+    private Cache<String, VerifiedToken> verifiedTokenCache;
 
     @Override
     public void afterPropertiesSet() throws Exception {
         this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        // 검증 캐시와 같은 시계로 만료를 판단합니다.
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
     }
 
     public JwtTokenResponse issueTokens(Long userId) {
@@ -40,13 +75,18 @@ public class JwtTokenProvider implements InitializingBean {
     }
 
     public String generateToken(Long userId, boolean isAccessToken) {
-        final Date now = new Date();
+        final Date now = Date.from(clock.instant());
         final Date expirationDate = generateExpirationDate(now, isAccessToken);
         final Claims claims = Jwts.claims()
                 .setIssuedAt(now)
                 .setExpiration(expirationDate);
 
         claims.put(Constant.USER_ID, userId);
+        claims.put(TOKEN_TYPE_CLAIM, isAccessToken ? ACCESS_TOKEN_TYPE : REFRESH_TOKEN_TYPE);
+        if (!isAccessToken) {
+            // 같은 시각에 여러 기기에서 로그인해도 리프레시 토큰(및 저장되는 해시)이 겹치지 않도록 jti 를 부여합니다.
+            claims.setId(UUID.randomUUID().toString());
+        }
 
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
@@ -63,15 +103,33 @@ public class JwtTokenProvider implements InitializingBean {
     }
 
     public Claims getBody(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
+    /**
+     * 토큰에서 userId 를 꺼냅니다.
+     * 이미 검증된 토큰이면 캐시에서 바로 반환하고, 아니면 한 번만 파싱/서명 검증한 뒤 캐시에 저장합니다.
+     * 리프레시 토큰은 만료가 길고 로그아웃/탈퇴 시 무효화되어야 하므로 캐시하지 않고 매번 검증합니다.
+     * 검증에 실패하면 jjwt 예외를 그대로 던집니다.
+     */
     public Long getUserIdFromJwt(String token) {
+        String cacheKey = HashUtil.sha256Hex(token);
+        VerifiedToken verified = verifiedTokenCache.getIfPresent(cacheKey);
+        if (verified != null && clock.instant().isBefore(verified.expiresAt())) {
+            return verified.userId();
+        }
+
         Claims claims = getBody(token);
+        Long userId = getUserIdFromClaims(claims);
+        if (ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM)) && claims.getExpiration() != null) {
+            verifiedTokenCache.put(cacheKey, new VerifiedToken(userId, claims.getExpiration().toInstant()));
+        }
+        return userId;
+    }
+
+    public Long getUserIdFromClaims(Claims claims) {
         Object userId = claims.get(Constant.USER_ID);
         if (userId == null) {
             throw new DPlayException(ResponseError.INVALID_TOKEN);
@@ -85,4 +143,26 @@ public class JwtTokenProvider implements InitializingBean {
         }
         return principal;
     }
+
+    private record VerifiedToken(Long userId, Instant expiresAt) {
+    }
+
+    private class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), value.expiresAt());
+            return remaining.isNegative() ? 0L : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
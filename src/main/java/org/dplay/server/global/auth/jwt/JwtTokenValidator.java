@@ -14,9 +14,13 @@ public class JwtTokenValidator {
 
     private final JwtTokenProvider jwtTokenProvider;
 
-    public void validateAccessToken(String accessToken) {
+    /**
+     * 액세스 토큰을 검증하고 userId 를 반환합니다.
+     * 토큰은 한 번만 파싱하며, 이미 검증된 토큰은 서명 검증 없이 캐시에서 반환합니다.
+     */
+    public Long getUserIdFromAccessToken(String accessToken) {
         try {
-            jwtTokenProvider.getBody(accessToken);
+            return jwtTokenProvider.getUserIdFromJwt(accessToken);
         } catch (MalformedJwtException ex) {
             throw new DPlayException(ResponseError.INVALID_ACCESS_TOKEN);
         } catch (ExpiredJwtException ex) {
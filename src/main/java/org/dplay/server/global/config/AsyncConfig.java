@@ -0,0 +1,75 @@
+package org.dplay.server.global.config;
+
+import org.dplay.server.global.util.ReadFanOutExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Track 메타데이터 동기화 전용 실행기
+     * 큐가 가득 차면 작업을 거절하며, 거절된 트랙은 다음 조회 시 다시 요청됩니다.
+     * 가상 스레드 모드에서도 Apple Music 동시 호출 수를 pool-size 로 제한하기 위해 풀 크기는 유지합니다.
+     */
+    @Bean(name = "trackMetadataExecutor")
+    public ThreadPoolTaskExecutor trackMetadataExecutor(
+            @Value("${track.metadata.executor.pool-size:2}") int poolSize,
+            @Value("${track.metadata.executor.queue-capacity:500}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("track-metadata-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 조회 경로의 병렬 조회 전용 실행기
+     * 큐 없이 pool-size 만큼만 동시에 실행하며, 넘치는 작업은 {@link ReadFanOutExecutor} 가 요청 스레드에서 실행합니다.
+     * <p>
+     * 작업마다 커넥션을 하나씩 쓰고, open-in-view 로 요청 스레드도 이미 사용한 커넥션을 요청이 끝날 때까지 쥐고 있습니다.
+     * 따라서 pool-size 를 지정하지 않으면 커넥션 풀(spring.datasource.hikari.maximum-pool-size, 기본 10)의 절반으로 두어
+     * 나머지 절반을 요청 스레드 몫으로 남깁니다. 병렬 조회 중인 요청 수와 pool-size 의 합이 커넥션 풀 크기를 넘으면
+     * 작업이 커넥션을 기다리다 read-fan-out.timeout 으로 실패하므로, 풀 크기를 바꿀 때 함께 조정해야 합니다.
+     */
+    @Bean(name = "readFanOutTaskExecutor")
+    public ThreadPoolTaskExecutor readFanOutTaskExecutor(
+            @Value("${read-fan-out.pool-size:0}") int configuredPoolSize,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        int poolSize = configuredPoolSize > 0 ? configuredPoolSize : Math.max(1, connectionPoolSize / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("read-fan-out-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ReadFanOutExecutor readFanOutExecutor(
+            @Qualifier("readFanOutTaskExecutor") ThreadPoolTaskExecutor readFanOutTaskExecutor,
+            @Value("${read-fan-out.timeout:PT3S}") Duration timeout,
+            PlatformTransactionManager transactionManager
+    ) {
+        return new ReadFanOutExecutor(readFanOutTaskExecutor, timeout, transactionManager);
+    }
+}
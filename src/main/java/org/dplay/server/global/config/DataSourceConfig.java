@@ -0,0 +1,86 @@
+package org.dplay.server.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.dplay.server.global.datasource.PrimaryPinningWindow;
+import org.dplay.server.global.datasource.ReplicationRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary/replica DataSource 구성
+ * <p>
+ * datasource.replication.enabled=true 일 때만 적용되며, 그렇지 않으면 spring.datasource 단일 DataSource 를 사용합니다.
+ * replica 는 primary 와 같은 계정(spring.datasource.username/password)으로 접속합니다.
+ * 각 커넥션 풀은 풀 이름(primary, replica-1, ...)을 태그로 hikaricp.* 메트릭을 노출합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replication.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    private static final String REPLICA_POOL_NAME_PREFIX = "replica-";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicationRoutingDataSource.PRIMARY_KEY);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replication.replica-urls}") List<String> replicaUrls,
+            @Value("${datasource.replication.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${datasource.replication.replica-connection-timeout:PT3S}") Duration replicaConnectionTimeout,
+            @Value("${datasource.replication.read-your-writes-window:PT5S}") Duration readYourWritesWindow
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(REPLICA_POOL_NAME_PREFIX + (i + 1));
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+
+        return new ReplicationRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                new PrimaryPinningWindow(readYourWritesWindow)
+        );
+    }
+
+    /**
+     * 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 지연 프록시로 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+}
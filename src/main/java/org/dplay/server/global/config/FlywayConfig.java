@@ -0,0 +1,13 @@
+package org.dplay.server.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Flyway 마이그레이션 설정
+ * 운영 환경은 spring.config.location 으로 외부 설정 파일만 읽으므로, spring.flyway.* 기본값은 flyway.properties 에 두고 여기서 읽습니다.
+ */
+@Configuration
+@PropertySource("classpath:flyway.properties")
+public class FlywayConfig {
+}
@@ -0,0 +1,60 @@
+package org.dplay.server.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 사용자의 읽기를 일정 시간 primary 로 고정합니다. (read-your-writes)
+ * <p>
+ * 복제 지연 동안 replica 에서 읽으면 방금 작성한 게시글이 피드에 보이지 않을 수 있으므로,
+ * 커밋 직후 window 동안은 같은 사용자의 읽기 전용 트랜잭션도 primary 에서 처리합니다.
+ * 인증 정보가 없는 요청(스케줄러 등)은 고정하지 않습니다.
+ */
+public class PrimaryPinningWindow {
+
+    private static final long MAXIMUM_PINNED_USERS = 100_000L;
+
+    private final Cache<Long, Boolean> pinnedUsers;
+
+    public PrimaryPinningWindow(Duration window) {
+        this.pinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAXIMUM_PINNED_USERS)
+                .build();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 요청 사용자를 primary 에 고정합니다.
+     */
+    public void pinAfterCommit() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinnedUsers.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    public boolean isPinned() {
+        Long userId = currentUserId();
+        return userId != null && pinnedUsers.getIfPresent(userId) != null;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
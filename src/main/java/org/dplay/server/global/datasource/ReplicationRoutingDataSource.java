@@ -0,0 +1,131 @@
+package org.dplay.server.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로, 그 밖의 요청을 primary 로 보내는 DataSource
+ * <p>
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸 사용해야 합니다.
+ * replica 는 라운드 로빈으로 고르며, 헬스 체크나 커넥션 획득에 실패한 replica 는 복구될 때까지 제외합니다.
+ * 사용 가능한 replica 가 없으면 primary 에서 읽습니다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY_KEY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final PrimaryPinningWindow pinningWindow;
+    private final Set<String> unavailableReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(
+            DataSource primary,
+            List<HikariDataSource> replicas,
+            PrimaryPinningWindow pinningWindow
+    ) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.pinningWindow = pinningWindow;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY_KEY, primary);
+        for (HikariDataSource replica : this.replicas) {
+            targetDataSources.put(replica.getPoolName(), replica);
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinningWindow.pinAfterCommit();
+            }
+            return PRIMARY_KEY;
+        }
+        if (pinningWindow.isPinned()) {
+            return PRIMARY_KEY;
+        }
+        return selectReplica();
+    }
+
+    /**
+     * replica 커넥션 획득에 실패하면 해당 replica 를 제외하고 primary 커넥션을 반환합니다.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object lookupKey = determineCurrentLookupKey();
+        if (PRIMARY_KEY.equals(lookupKey)) {
+            return primary.getConnection();
+        }
+
+        try {
+            return getResolvedDataSources().get(lookupKey).getConnection();
+        } catch (SQLException e) {
+            markUnavailable((String) lookupKey, e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * replica 상태를 주기적으로 확인해 제외/복구합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replication.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (HikariDataSource replica : replicas) {
+            String poolName = replica.getPoolName();
+            try (Connection connection = replica.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUnavailable(poolName, null);
+                } else if (unavailableReplicas.remove(poolName)) {
+                    log.info("replica 복구, 읽기 트래픽을 다시 보냅니다. (pool: {})", poolName);
+                }
+            } catch (SQLException e) {
+                markUnavailable(poolName, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    private Object selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int offset = 0; offset < size; offset++) {
+            String poolName = replicas.get((start + offset) % size).getPoolName();
+            if (!unavailableReplicas.contains(poolName)) {
+                return poolName;
+            }
+        }
+        return PRIMARY_KEY;
+    }
+
+    private void markUnavailable(String poolName, SQLException cause) {
+        if (unavailableReplicas.add(poolName)) {
+            log.warn("replica 사용 불가, 복구될 때까지 primary 에서 읽습니다. (pool: {})", poolName, cause);
+        }
+    }
+}
@@ -41,7 +41,10 @@ public enum ResponseError {
     USER_ALREADY_EXISTS(4092, "이미 존재하는 유저입니다."),
 
     // Internal Server Error (500)
-    INTERNAL_SERVER_ERROR(5000, "서버 내부 오류입니다.");
+    INTERNAL_SERVER_ERROR(5000, "서버 내부 오류입니다."),
+
+    // Gateway Timeout (504)
+    EXTERNAL_API_TIMEOUT(5040, "외부 API 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
 
     private final int code;
     private final String message;
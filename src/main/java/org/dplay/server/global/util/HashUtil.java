@@ -0,0 +1,28 @@
+package org.dplay.server.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class HashUtil {
+
+    private HashUtil() {
+    }
+
+    /**
+     * 문자열의 SHA-256 해시를 16진수 문자열로 반환
+     * 토큰 원문 대신 캐시 키로 사용합니다.
+     *
+     * @param value 해시할 문자열
+     * @return 64자리 16진수 문자열
+     */
+    public static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.dplay.server.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 조회 경로에서 서로 의존하지 않는 조회를 동시에 실행하는 실행기
+ * <p>
+ * {@link Scope} 안에서 fork 한 작업은 join 이 끝날 때까지 모두 완료되거나, 하나라도 실패하면 나머지가 취소됩니다.
+ * 응답 시간은 조회 시간의 합이 아니라 가장 느린 조회 시간에 가까워집니다.
+ * <ul>
+ *     <li>실행기의 스레드가 모두 사용 중이면 요청 스레드에서 바로 실행하므로 동시 실행 수는 실행기 크기를 넘지 않습니다.</li>
+ *     <li>작업마다 timeout 이 지나면 EXTERNAL_API_TIMEOUT 예외로 실패합니다.
+ *     작업은 같은 timeout 을 가진 읽기 전용 트랜잭션에서 실행되므로, 그 안의 JDBC 쿼리도 timeout 이 지나면 DB 에서 취소됩니다.</li>
+ *     <li>작업은 요청 스레드의 SecurityContext 를 이어받지만 요청 스레드의 트랜잭션과 영속성 컨텍스트는 공유하지 않으므로,
+ *     지연 로딩이 필요 없는 결과를 반환해야 합니다.</li>
+ * </ul>
+ * <pre>{@code
+ * try (ReadFanOutExecutor.Scope scope = readFanOutExecutor.open()) {
+ *     Subtask<User> user = scope.fork(() -> userService.getUserById(userId));
+ *     Subtask<Long> count = scope.fork(() -> postQueryService.countByQuestion(questionId));
+ *     scope.join();
+ *     ...
+ * }
+ * }</pre>
+ */
+@Slf4j
+public final class ReadFanOutExecutor {
+
+    private final TaskExecutor taskExecutor;
+    private final Duration defaultTimeout;
+    private final PlatformTransactionManager transactionManager;
+
+    public ReadFanOutExecutor(
+            TaskExecutor taskExecutor,
+            Duration defaultTimeout,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.taskExecutor = taskExecutor;
+        this.defaultTimeout = defaultTimeout;
+        this.transactionManager = transactionManager;
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        private Scope() {
+        }
+
+        /**
+         * 기본 timeout 으로 작업을 실행합니다.
+         */
+        public <T> Subtask<T> fork(Supplier<T> task) {
+            return fork(task, defaultTimeout);
+        }
+
+        /**
+         * 작업을 실행기에 제출하고, 실행기가 가득 차 있으면 현재 스레드에서 실행합니다.
+         *
+         * @param task    독립적으로 실행할 조회
+         * @param timeout 작업 하나에 허용하는 시간
+         */
+        public <T> Subtask<T> fork(Supplier<T> task, Duration timeout) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((result, failure) -> {
+                        if (failure != null) {
+                            firstFailure.completeExceptionally(failure);
+                        }
+                    });
+            futures.add(future);
+            TransactionTemplate transaction = readOnlyTransaction(timeout);
+
+            Runnable runnable = withCallerContext(() -> {
+                // 이미 시간이 초과됐거나 다른 작업이 실패했으면 실행하지 않는다
+                if (future.isDone() || firstFailure.isDone()) {
+                    future.cancel(false);
+                    return;
+                }
+                try {
+                    future.complete(transaction.execute(status -> task.get()));
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                }
+            });
+
+            try {
+                taskExecutor.execute(runnable);
+            } catch (TaskRejectedException e) {
+                runnable.run();
+            }
+            return new Subtask<>(future);
+        }
+
+        /**
+         * fork 한 작업이 모두 끝날 때까지 기다립니다.
+         * 하나라도 실패하면 나머지 작업을 취소하고 그 예외를 그대로 던집니다.
+         */
+        public void join() {
+            CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+            try {
+                CompletableFuture.anyOf(all, firstFailure).join();
+            } catch (CompletionException e) {
+                cancelAll();
+                throw unwrap(e.getCause());
+            }
+        }
+
+        /**
+         * 끝나지 않은 작업을 취소합니다.
+         */
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    public static final class Subtask<T> {
+
+        private final CompletableFuture<T> future;
+
+        private Subtask(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * 작업 결과를 반환합니다. {@link Scope#join()} 이 정상적으로 끝난 뒤에만 호출할 수 있습니다.
+         */
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("Scope.join() 이후에 결과를 조회해야 합니다.");
+            }
+            return future.join();
+        }
+    }
+
+    /**
+     * 작업의 JDBC 쿼리 timeout 을 작업 timeout 에 맞춥니다. (트랜잭션 timeout 은 초 단위이므로 올림)
+     * 작업 안에서 호출하는 @Transactional 메서드는 이 트랜잭션에 참여하므로 같은 timeout 이 적용됩니다.
+     */
+    private TransactionTemplate readOnlyTransaction(Duration timeout) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+        return transaction;
+    }
+
+    private Runnable withCallerContext(Runnable runnable) {
+        SecurityContext callerContext = SecurityContextHolder.getContext();
+        return () -> {
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            SecurityContextHolder.setContext(callerContext);
+            try {
+                runnable.run();
+            } finally {
+                SecurityContextHolder.setContext(previousContext);
+            }
+        };
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            log.warn("병렬 조회 시간 초과");
+            return new DPlayException(ResponseError.EXTERNAL_API_TIMEOUT);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new DPlayException(ResponseError.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,104 @@
+package org.dplay.server.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나의 실행으로 합치는 유틸리티
+ * <p>
+ * 먼저 도착한 호출(leader)이 자신의 스레드에서 loader 를 실행하고, 그 사이 같은 키로 들어온 호출은
+ * leader 의 {@link CompletableFuture} 결과를 함께 받습니다. 결과가 나오면 키는 바로 제거되므로 결과를 캐시하지는 않습니다.
+ * <ul>
+ *     <li>진행 중인 키가 maxInFlight 개 이상이면 합치지 않고 바로 loader 를 실행합니다.</li>
+ *     <li>대기 중인 호출은 timeout 이 지나면 EXTERNAL_API_TIMEOUT 예외를 던지고, 멈춘 leader 의 키를 제거해 다음 호출이 새로 시작하도록 합니다.</li>
+ * </ul>
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+@Slf4j
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final Duration timeout;
+
+    public SingleFlight(int maxInFlight, Duration timeout) {
+        this.maxInFlight = maxInFlight;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 loader 를 실행합니다.
+     *
+     * @param key    합칠 호출을 구분하는 키
+     * @param loader 실제 호출
+     * @return loader 의 결과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing == null) {
+            if (inFlight.size() >= maxInFlight) {
+                return loader.get();
+            }
+            CompletableFuture<V> created = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, created);
+            if (existing == null) {
+                return lead(key, created, loader);
+            }
+        }
+        return await(key, existing);
+    }
+
+    /**
+     * 현재 진행 중인 키 수를 반환합니다.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> future, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 멈춘 leader 가 키를 계속 점유하지 않도록 제거
+            inFlight.remove(key, future);
+            log.warn("동일 요청 대기 시간 초과 (key: {}, timeout: {})", key, timeout);
+            throw new DPlayException(ResponseError.EXTERNAL_API_TIMEOUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new DPlayException(ResponseError.INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DPlayException(ResponseError.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
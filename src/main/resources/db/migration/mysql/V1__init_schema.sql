@@ -0,0 +1,117 @@
+-- 마이그레이션 도입 이전의 운영 스키마 (기존 운영 DB 는 baseline-on-migrate 로 V1 을 건너뜁니다)
+
+CREATE TABLE users
+(
+    user_id       BIGINT                  NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6),
+    modified_at   DATETIME(6),
+    nickname      VARCHAR(255)            NOT NULL,
+    profile_img   VARCHAR(255),
+    platform_id   VARCHAR(255)            NOT NULL,
+    platform      ENUM ('KAKAO', 'APPLE') NOT NULL,
+    refresh_token LONGTEXT,
+    push_on       BIT                     NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname),
+    CONSTRAINT uk_users_platform_id UNIQUE (platform_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE question
+(
+    question_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    modified_at  DATETIME(6),
+    title        VARCHAR(255) NOT NULL,
+    display_date DATE         NOT NULL,
+    post_count   INT          NOT NULL,
+    PRIMARY KEY (question_id),
+    CONSTRAINT uk_question_date UNIQUE (display_date)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE track
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at         DATETIME(6),
+    modified_at        DATETIME(6),
+    track_id           VARCHAR(255) NOT NULL,
+    song_title         VARCHAR(255) NOT NULL,
+    artist_name        VARCHAR(255) NOT NULL,
+    album_name         VARCHAR(255),
+    cover_img          VARCHAR(255),
+    duration_ms        BIGINT,
+    isrc               VARCHAR(255),
+    preview_url        VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_track_track_id UNIQUE (track_id),
+    INDEX idx_track_artist (artist_name)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post
+(
+    post_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    user_id     BIGINT       NOT NULL,
+    question_id BIGINT       NOT NULL,
+    track_id    BIGINT       NOT NULL,
+    content     VARCHAR(255) NOT NULL,
+    like_count  INT          NOT NULL,
+    save_count  INT          NOT NULL,
+    PRIMARY KEY (post_id),
+    INDEX idx_post_user (user_id),
+    INDEX idx_post_track (track_id),
+    INDEX idx_post_user_question (user_id, question_id),
+    CONSTRAINT fk_post_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_question FOREIGN KEY (question_id) REFERENCES question (question_id),
+    CONSTRAINT fk_post_track FOREIGN KEY (track_id) REFERENCES track (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_like
+(
+    like_id     BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    post_id     BIGINT NOT NULL,
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (like_id),
+    CONSTRAINT uk_post_like_post_user UNIQUE (post_id, user_id),
+    INDEX idx_post_like_post (post_id),
+    INDEX idx_post_like_user (user_id),
+    CONSTRAINT fk_post_like_post FOREIGN KEY (post_id) REFERENCES post (post_id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_like_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_save
+(
+    scrap_id    BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    post_id     BIGINT NOT NULL,
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (scrap_id),
+    CONSTRAINT uk_post_save_post_user UNIQUE (post_id, user_id),
+    INDEX idx_post_save_post (post_id),
+    INDEX idx_post_save_user (user_id),
+    CONSTRAINT fk_post_save_post FOREIGN KEY (post_id) REFERENCES post (post_id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_save_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE question_editor_pick
+(
+    pick_id     BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    question_id BIGINT NOT NULL,
+    post_id     BIGINT NOT NULL,
+    position    INT    NOT NULL,
+    PRIMARY KEY (pick_id),
+    CONSTRAINT fk_question_editor_pick_question FOREIGN KEY (question_id) REFERENCES question (question_id),
+    CONSTRAINT fk_question_editor_pick_post FOREIGN KEY (post_id) REFERENCES post (post_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,4 @@
+-- Apple Music 메타데이터 동기화 컬럼
+ALTER TABLE track
+    ADD COLUMN artwork_url        VARCHAR(255),
+    ADD COLUMN metadata_synced_at DATETIME(6);
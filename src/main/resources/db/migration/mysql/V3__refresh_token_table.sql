@@ -0,0 +1,41 @@
+-- 사용자별 다중 리프레시 토큰 (원문 대신 SHA-256 해시 저장)
+CREATE TABLE refresh_token
+(
+    refresh_token_id BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6),
+    modified_at      DATETIME(6),
+    user_id          BIGINT      NOT NULL,
+    token_hash       VARCHAR(64) NOT NULL,
+    expires_at       DATETIME(6) NOT NULL,
+    PRIMARY KEY (refresh_token_id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_token_user (user_id),
+    INDEX idx_refresh_token_expires_at (expires_at),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- users.refresh_token 에 저장된 기존 토큰을 해시로 옮깁니다.
+-- 만료 시각은 JWT payload 의 exp(UTC epoch)를 애플리케이션 시간대(Asia/Seoul)로 변환하며, exp 를 읽을 수 없는 토큰은 옮기지 않습니다.
+INSERT INTO refresh_token (created_at, modified_at, user_id, token_hash, expires_at)
+SELECT UTC_TIMESTAMP(6) + INTERVAL 9 HOUR,
+       UTC_TIMESTAMP(6) + INTERVAL 9 HOUR,
+       claims.user_id,
+       SHA2(claims.refresh_token, 256),
+       TIMESTAMP('1970-01-01') + INTERVAL claims.exp SECOND + INTERVAL 9 HOUR
+FROM (SELECT decoded.user_id,
+             decoded.refresh_token,
+             CAST(JSON_EXTRACT(decoded.payload, '$.exp') AS UNSIGNED) AS exp
+      FROM (SELECT encoded.user_id,
+                   encoded.refresh_token,
+                   CONVERT(FROM_BASE64(RPAD(encoded.payload, CEIL(LENGTH(encoded.payload) / 4) * 4, '=')) USING utf8mb4) AS payload
+            FROM (SELECT u.user_id,
+                         u.refresh_token,
+                         REPLACE(REPLACE(SUBSTRING_INDEX(SUBSTRING_INDEX(u.refresh_token, '.', 2), '.', -1), '-', '+'), '_', '/') AS payload
+                  FROM users u
+                  WHERE u.refresh_token IS NOT NULL) encoded) decoded
+      WHERE JSON_VALID(decoded.payload)) claims
+WHERE claims.exp IS NOT NULL;
+
+ALTER TABLE users
+    DROP COLUMN refresh_token;
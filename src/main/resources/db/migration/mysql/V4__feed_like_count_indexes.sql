@@ -0,0 +1,5 @@
+-- 인기순 피드: WHERE question_id = ? ORDER BY like_count DESC, post_id
+CREATE INDEX idx_post_question_like_count ON post (question_id, like_count DESC, post_id);
+
+-- 에디터픽 제외/조회: WHERE post_id IN (...)
+CREATE INDEX idx_question_editor_pick_post ON question_editor_pick (post_id);
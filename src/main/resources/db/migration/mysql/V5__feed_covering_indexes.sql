@@ -0,0 +1,21 @@
+-- 피드/마이페이지 조회 경로별 복합 인덱스
+-- InnoDB 보조 인덱스는 PK 를 포함하므로 (user_id, post_id) 인덱스는 postId 목록 조회와 count 쿼리를 테이블 접근 없이 처리합니다.
+
+-- 최신순 피드: WHERE question_id = ? ORDER BY created_at DESC, post_id DESC
+CREATE INDEX idx_post_question_created_at ON post (question_id, created_at DESC, post_id DESC);
+
+-- 내가 작성한 글: WHERE user_id = ? AND post_id < ? ORDER BY post_id DESC, count(user_id)
+-- idx_post_user 는 새 인덱스가 대체합니다. (user_id FK 는 idx_post_user_question 으로도 유지됨)
+CREATE INDEX idx_post_user_post ON post (user_id, post_id);
+DROP INDEX idx_post_user ON post;
+
+-- 좋아요 관계 조회: WHERE user_id = ? [AND post_id IN (...)]
+CREATE INDEX idx_post_like_user_post ON post_like (user_id, post_id);
+DROP INDEX idx_post_like_user ON post_like;
+
+-- 내가 스크랩한 글: WHERE user_id = ? AND post_id < ? ORDER BY post_id DESC, count(user_id), 스크랩 관계 조회
+CREATE INDEX idx_post_save_user_post ON post_save (user_id, post_id);
+DROP INDEX idx_post_save_user ON post_save;
+
+-- 에디터픽 조회: WHERE question_id = ? ORDER BY position
+CREATE INDEX idx_question_editor_pick_question_position ON question_editor_pick (question_id, position);
@@ -0,0 +1,10 @@
+-- 질문별/사용자별 게시글 수 집계 컬럼
+ALTER TABLE users
+    ADD COLUMN post_count INT NOT NULL DEFAULT 0;
+
+UPDATE users u
+SET u.post_count = (SELECT COUNT(*) FROM post p WHERE p.user_id = u.user_id);
+
+-- question.post_count 는 그동안 갱신되지 않았으므로 실제 값으로 채웁니다.
+UPDATE question q
+SET q.post_count = (SELECT COUNT(*) FROM post p WHERE p.question_id = q.question_id);
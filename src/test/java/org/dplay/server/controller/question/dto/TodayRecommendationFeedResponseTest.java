@@ -2,6 +2,7 @@ package org.dplay.server.controller.question.dto;
 
 import org.dplay.server.domain.post.dto.PostFeedItemDto;
 import org.dplay.server.domain.post.dto.PostFeedResultDto;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.entity.Post;
 import org.dplay.server.domain.question.entity.Question;
 import org.dplay.server.domain.track.entity.Track;
@@ -123,6 +124,6 @@ class TodayRecommendationFeedResponseTest {
         ReflectionTestUtils.setField(post, "postId", postId);
         ReflectionTestUtils.setField(post, "createdAt", createdAt);
 
-        return new PostFeedItemDto(post, isEditorPick, false, false, false, false);
+        return new PostFeedItemDto(PostSummaryDto.from(post), isEditorPick, false, false, false, false);
     }
 }
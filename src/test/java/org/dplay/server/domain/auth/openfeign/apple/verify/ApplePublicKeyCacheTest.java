@@ -0,0 +1,145 @@
+package org.dplay.server.domain.auth.openfeign.apple.verify;
+
+import org.dplay.server.domain.auth.openfeign.apple.AppleFeignClient;
+import org.dplay.server.domain.auth.openfeign.apple.dto.ApplePublicKey;
+import org.dplay.server.domain.auth.openfeign.apple.dto.ApplePublicKeys;
+import org.dplay.server.global.exception.DPlayException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ApplePublicKeyCacheTest {
+
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final ApplePublicKey KEY_1 = new ApplePublicKey("RSA", "kid-1", "sig", "RS256", "n", "AQAB");
+    private static final ApplePublicKey KEY_2 = new ApplePublicKey("RSA", "kid-2", "sig", "RS256", "n", "AQAB");
+
+    @Mock
+    private AppleFeignClient appleFeignClient;
+
+    @Mock
+    private PublicKeyGenerator publicKeyGenerator;
+
+    private MutableClock clock;
+    private ApplePublicKeyCache applePublicKeyCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-11-03T00:00:00Z"));
+        applePublicKeyCache = new ApplePublicKeyCache(appleFeignClient, publicKeyGenerator, clock, MIN_REFRESH_INTERVAL);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 kid 가 들어오면 즉시 공개키를 갱신해 반환한다")
+    void getPublicKey_unknownKid_refreshes() {
+        // Given
+        PublicKey publicKey2 = mock(PublicKey.class);
+        given(appleFeignClient.getApplePublicKeys())
+                .willReturn(new ApplePublicKeys(List.of(KEY_1)))
+                .willReturn(new ApplePublicKeys(List.of(KEY_1, KEY_2)));
+        given(publicKeyGenerator.generatePublicKey(KEY_1)).willReturn(mock(PublicKey.class));
+        given(publicKeyGenerator.generatePublicKey(KEY_2)).willReturn(publicKey2);
+        applePublicKeyCache.refresh();
+        clock.advance(MIN_REFRESH_INTERVAL);
+
+        // When
+        PublicKey result = applePublicKeyCache.getPublicKey(headers("kid-2"));
+
+        // Then
+        assertThat(result).isSameAs(publicKey2);
+        verify(appleFeignClient, times(2)).getApplePublicKeys();
+    }
+
+    @Test
+    @DisplayName("모르는 kid 로 인한 갱신은 min-refresh-interval 에 한 번으로 제한된다")
+    void getPublicKey_unknownKid_rateLimited() {
+        // Given
+        given(appleFeignClient.getApplePublicKeys()).willReturn(new ApplePublicKeys(List.of(KEY_1)));
+        given(publicKeyGenerator.generatePublicKey(KEY_1)).willReturn(mock(PublicKey.class));
+        applePublicKeyCache.refresh();
+
+        // When: 간격 안의 반복 요청은 Apple 을 호출하지 않는다
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> applePublicKeyCache.getPublicKey(headers("unknown")))
+                    .isInstanceOf(DPlayException.class);
+        }
+        verify(appleFeignClient, times(1)).getApplePublicKeys();
+
+        // Then: 간격이 지나면 다시 한 번 갱신한다
+        clock.advance(MIN_REFRESH_INTERVAL);
+        assertThatThrownBy(() -> applePublicKeyCache.getPublicKey(headers("unknown")))
+                .isInstanceOf(DPlayException.class);
+        verify(appleFeignClient, times(2)).getApplePublicKeys();
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 기존 공개키를 그대로 유지한다")
+    void refresh_failure_keepsPreviousKeys() {
+        // Given
+        PublicKey publicKey1 = mock(PublicKey.class);
+        given(appleFeignClient.getApplePublicKeys())
+                .willReturn(new ApplePublicKeys(List.of(KEY_1)))
+                .willThrow(new IllegalStateException("apple unavailable"));
+        given(publicKeyGenerator.generatePublicKey(KEY_1)).willReturn(publicKey1);
+        applePublicKeyCache.refresh();
+
+        // When
+        clock.advance(MIN_REFRESH_INTERVAL);
+        applePublicKeyCache.refresh();
+
+        // Then
+        assertThat(applePublicKeyCache.getPublicKey(headers("kid-1"))).isSameAs(publicKey1);
+        verify(appleFeignClient, times(2)).getApplePublicKeys();
+    }
+
+    private Map<String, String> headers(String kid) {
+        return Map.of("alg", "RS256", "kid", kid);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.dplay.server.domain.auth.openfeign.kakao.service;
+
+import org.dplay.server.domain.auth.dto.SocialUserDto;
+import org.dplay.server.domain.auth.openfeign.kakao.KakaoFeignClient;
+import org.dplay.server.domain.auth.openfeign.kakao.dto.KakaoUserDto;
+import org.dplay.server.domain.auth.openfeign.kakao.service.impl.KakaoServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoServiceImplTest {
+
+    private static final Duration TOKEN_CACHE_TTL = Duration.ofMinutes(5);
+    private static final String PROVIDER_TOKEN = "kakao-access-token";
+
+    @Mock
+    private KakaoFeignClient kakaoFeignClient;
+
+    private MutableClock clock;
+    private KakaoServiceImpl kakaoService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-11-03T00:00:00Z"));
+        kakaoService = new KakaoServiceImpl(kakaoFeignClient, clock);
+        ReflectionTestUtils.setField(kakaoService, "tokenCacheTtl", TOKEN_CACHE_TTL);
+        ReflectionTestUtils.setField(kakaoService, "tokenCacheMaximumSize", 100L);
+        kakaoService.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("TTL 안에 같은 토큰으로 다시 조회하면 카카오 API 를 호출하지 않는다")
+    void getSocialUserInfo_withinTtl_servedFromCache() {
+        // Given
+        given(kakaoFeignClient.getUserInformation("Bearer " + PROVIDER_TOKEN)).willReturn(new KakaoUserDto(1234L));
+        kakaoService.getSocialUserInfo(PROVIDER_TOKEN);
+
+        // When
+        clock.advance(TOKEN_CACHE_TTL.minusSeconds(1));
+        SocialUserDto result = kakaoService.getSocialUserInfo(PROVIDER_TOKEN);
+
+        // Then
+        assertThat(result.platformId()).isEqualTo("1234");
+        verify(kakaoFeignClient, times(1)).getUserInformation("Bearer " + PROVIDER_TOKEN);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 캐시가 만료되어 카카오 API 로 다시 조회한다")
+    void getSocialUserInfo_afterTtl_callsKakaoAgain() {
+        // Given
+        given(kakaoFeignClient.getUserInformation("Bearer " + PROVIDER_TOKEN)).willReturn(new KakaoUserDto(1234L));
+        kakaoService.getSocialUserInfo(PROVIDER_TOKEN);
+
+        // When
+        clock.advance(TOKEN_CACHE_TTL);
+        SocialUserDto result = kakaoService.getSocialUserInfo(PROVIDER_TOKEN);
+
+        // Then
+        assertThat(result.platformId()).isEqualTo("1234");
+        verify(kakaoFeignClient, times(2)).getUserInformation("Bearer " + PROVIDER_TOKEN);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
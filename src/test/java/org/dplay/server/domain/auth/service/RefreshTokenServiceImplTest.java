@@ -0,0 +1,139 @@
+package org.dplay.server.domain.auth.service;
+
+import org.dplay.server.domain.auth.entity.RefreshToken;
+import org.dplay.server.domain.auth.repository.RefreshTokenRepository;
+import org.dplay.server.domain.auth.service.impl.RefreshTokenServiceImpl;
+import org.dplay.server.domain.user.Platform;
+import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.HashUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-11-03T00:00:00Z"), ZONE);
+    private static final long REFRESH_EXPIRATION_MILLIS = 1_209_600_000L;
+    private static final String REFRESH_TOKEN = "header.payload.signature";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(
+                refreshTokenRepository,
+                userRepository,
+                FIXED_CLOCK,
+                REFRESH_EXPIRATION_MILLIS
+        );
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 원문 대신 SHA-256 해시와 만료 시각으로 저장한다")
+    void save_storesHash() {
+        // Given
+        User user = user(1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+
+        // When
+        refreshTokenService.save(1L, REFRESH_TOKEN);
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(HashUtil.sha256Hex(REFRESH_TOKEN));
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(LocalDateTime.of(2025, 11, 17, 9, 0));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰을 사용하면 저장소에서 삭제하고 소유자의 userId를 반환한다")
+    void consume_deletesAndReturnsOwner() {
+        // Given
+        String tokenHash = HashUtil.sha256Hex(REFRESH_TOKEN);
+        RefreshToken stored = refreshToken(user(1L), LocalDateTime.now(FIXED_CLOCK).plusDays(1));
+        when(refreshTokenRepository.findByTokenHash(tokenHash)).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.deleteByTokenHash(tokenHash)).thenReturn(1);
+
+        // When
+        Long ownerId = refreshTokenService.consume(REFRESH_TOKEN);
+
+        // Then
+        assertThat(ownerId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 리프레시 토큰을 사용해 삭제에 실패하면 INVALID_REFRESH_TOKEN 예외가 발생한다")
+    void consume_alreadyConsumed_throws() {
+        // Given
+        String tokenHash = HashUtil.sha256Hex(REFRESH_TOKEN);
+        RefreshToken stored = refreshToken(user(1L), LocalDateTime.now(FIXED_CLOCK).plusDays(1));
+        when(refreshTokenRepository.findByTokenHash(tokenHash)).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.deleteByTokenHash(tokenHash)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.consume(REFRESH_TOKEN))
+                .isInstanceOf(DPlayException.class)
+                .extracting("responseError")
+                .isEqualTo(ResponseError.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("만료된 리프레시 토큰을 사용하면 EXPIRED_REFRESH_TOKEN 예외가 발생한다")
+    void consume_expired_throws() {
+        // Given
+        String tokenHash = HashUtil.sha256Hex(REFRESH_TOKEN);
+        RefreshToken stored = refreshToken(user(1L), LocalDateTime.now(FIXED_CLOCK).minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHash(tokenHash)).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.deleteByTokenHash(tokenHash)).thenReturn(1);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.consume(REFRESH_TOKEN))
+                .isInstanceOf(DPlayException.class)
+                .extracting("responseError")
+                .isEqualTo(ResponseError.EXPIRED_REFRESH_TOKEN);
+        verify(refreshTokenRepository, times(1)).deleteByTokenHash(tokenHash);
+    }
+
+    private User user(Long userId) {
+        User user = User.builder()
+                .platform(Platform.KAKAO)
+                .platformId("123456")
+                .nickname("테스트유저")
+                .build();
+        ReflectionTestUtils.setField(user, "userId", userId);
+        return user;
+    }
+
+    private RefreshToken refreshToken(User user, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .user(user)
+                .tokenHash(HashUtil.sha256Hex(REFRESH_TOKEN))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
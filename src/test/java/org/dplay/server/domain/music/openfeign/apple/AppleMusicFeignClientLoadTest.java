@@ -0,0 +1,135 @@
+package org.dplay.server.domain.music.openfeign.apple;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Apple Music 응답이 500ms 지연될 때 요청 처리 스레드 종류에 따른 처리량을 비교하는 부하 테스트
+ * <p>
+ * 로컬 HTTP 서버가 Apple Music 을 대신해 모든 응답을 500ms 늦게 돌려주고,
+ * 운영과 같은 계약(SpringMvcContract)과 기본 Client(HttpURLConnection)로 만든 Feign 클라이언트를 호출한다.
+ * 플랫폼 스레드는 Tomcat 기본 최대 스레드 수(200)로 제한하고, 가상 스레드는 요청마다 하나씩 생성한다.
+ * <p>
+ * 실행: ./gradlew loadTest -PvirtualThreads
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class AppleMusicFeignClientLoadTest {
+
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(500);
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int REQUESTS = 2_000;
+    private static final String EMPTY_SEARCH_RESPONSE = "{\"results\":{}}";
+
+    private HttpServer upstream;
+    private ExecutorService upstreamExecutor;
+    private AppleMusicFeignClient appleMusicFeignClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstreamExecutor = Executors.newCachedThreadPool();
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/", exchange -> {
+            try {
+                Thread.sleep(UPSTREAM_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = EMPTY_SEARCH_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+
+        HttpMessageConverters messageConverters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        appleMusicFeignClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(() -> messageConverters)))
+                .target(AppleMusicFeignClient.class, "http://127.0.0.1:" + upstream.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Apple Music 응답이 500ms 지연되면 가상 스레드의 처리량이 200개 플랫폼 스레드 풀보다 높다")
+    void search_withUpstreamLatency_virtualThreadsOutperformPlatformPool() throws Exception {
+        // Given
+        ThreadPoolTaskExecutor platformExecutor = new ThreadPoolTaskExecutor();
+        platformExecutor.setCorePoolSize(TOMCAT_MAX_THREADS);
+        platformExecutor.setMaxPoolSize(TOMCAT_MAX_THREADS);
+        platformExecutor.setThreadNamePrefix("load-platform-");
+        platformExecutor.initialize();
+        VirtualThreadTaskExecutor virtualExecutor = new VirtualThreadTaskExecutor("load-virtual-");
+
+        // When
+        double platformThroughput;
+        try {
+            platformThroughput = measureThroughput(platformExecutor);
+        } finally {
+            platformExecutor.shutdown();
+        }
+        double virtualThroughput = measureThroughput(virtualExecutor);
+
+        // Then
+        // 플랫폼 스레드 풀은 (스레드 수 / 지연 시간) = 초당 약 400건에서 막힌다
+        double platformCeiling = TOMCAT_MAX_THREADS / (UPSTREAM_LATENCY.toMillis() / 1000.0);
+        assertThat(platformThroughput)
+                .as("플랫폼 스레드 처리량 (req/s)")
+                .isLessThanOrEqualTo(platformCeiling * 1.1);
+        assertThat(virtualThroughput)
+                .as("가상 스레드 처리량 (req/s), 플랫폼 스레드 처리량: %.1f", platformThroughput)
+                .isGreaterThan(platformThroughput * 2);
+    }
+
+    /**
+     * REQUESTS 건의 검색 요청을 executor 에 동시에 제출하고 모두 끝날 때까지의 초당 처리량을 반환한다.
+     */
+    private double measureThroughput(AsyncTaskExecutor executor) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> appleMusicFeignClient.search(
+                    "Bearer load-test", "아이유", "songs", 20, null, "kr")));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return REQUESTS / elapsedSeconds;
+    }
+}
@@ -0,0 +1,131 @@
+package org.dplay.server.domain.music.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.dplay.server.domain.music.dto.MusicSearchItemDto;
+import org.dplay.server.domain.music.openfeign.apple.service.AppleMusicService.MusicSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MusicSearchCacheRepositoryTest {
+
+    private static final Duration DEFAULT_TTL = Duration.ofHours(6);
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private MusicSearchCacheRepository cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheRepository = new MusicSearchCacheRepository(
+                redisTemplate,
+                objectMapper,
+                meterRegistry,
+                DEFAULT_TTL,
+                NEGATIVE_TTL,
+                "us:PT1H",
+                Duration.ofMinutes(10),
+                100
+        );
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("정규화된 검색어가 같으면 로컬 캐시에서 바로 반환한다")
+    void find_normalizedQuery_hitsLocalCache() {
+        // Given
+        MusicSearchResult result = searchResult();
+        cacheRepository.save("  IU   Blueming ", "kr", 20, null, result);
+
+        // When
+        Optional<MusicSearchResult> cached = cacheRepository.find("iu blueming", "KR", 20, 0);
+
+        // Then
+        assertThat(cached).contains(result);
+        verify(valueOperations, times(1)).set(eq("music:search:kr:20:0:iu blueming"), anyString(), eq(DEFAULT_TTL));
+        verify(valueOperations, never()).get(anyString());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "musicSearch").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("빈 결과는 negative-ttl, storefront 별 TTL 이 있으면 해당 TTL 로 저장한다")
+    void save_usesNegativeAndStorefrontTtl() {
+        // When
+        cacheRepository.save("없는노래", "kr", 20, null, new MusicSearchResult(List.of(), null));
+        cacheRepository.save("IU", "us", 20, null, searchResult());
+
+        // Then
+        verify(valueOperations, times(1)).set(eq("music:search:kr:20:0:없는노래"), anyString(), eq(NEGATIVE_TTL));
+        verify(valueOperations, times(1)).set(eq("music:search:us:20:0:iu"), anyString(), eq(Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 Redis 에서 읽어 로컬 캐시를 채운다")
+    void find_redisHit_populatesLocalCache() throws Exception {
+        // Given
+        MusicSearchResult result = searchResult();
+        when(valueOperations.get("music:search:kr:20:20:iu"))
+                .thenReturn(objectMapper.writeValueAsString(result));
+
+        // When
+        Optional<MusicSearchResult> first = cacheRepository.find("IU", "kr", 20, 20);
+        Optional<MusicSearchResult> second = cacheRepository.find("IU", "kr", 20, 20);
+
+        // Then
+        assertThat(first).contains(result);
+        assertThat(second).contains(result);
+        verify(valueOperations, times(1)).get("music:search:kr:20:20:iu");
+        assertThat(meterRegistry.get("music.search.cache.redis").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 캐시 미스로 처리한다")
+    void find_redisFailure_returnsEmpty() {
+        // Given
+        when(valueOperations.get(anyString())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        Optional<MusicSearchResult> cached = cacheRepository.find("IU", "kr", 20, null);
+
+        // Then
+        assertThat(cached).isEmpty();
+    }
+
+    private MusicSearchResult searchResult() {
+        MusicSearchItemDto item = MusicSearchItemDto.builder()
+                .trackId("apple:1678382")
+                .songTitle("Blueming")
+                .artistName("IU")
+                .coverImg("https://example.com/cover.jpg")
+                .isrc("KRA381902392")
+                .previewUrl("https://example.com/preview.m4a")
+                .build();
+        return new MusicSearchResult(List.of(item), "MjA=");
+    }
+}
@@ -0,0 +1,282 @@
+package org.dplay.server.domain.post.repository;
+
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.entity.PostLike;
+import org.dplay.server.domain.post.entity.PostSave;
+import org.dplay.server.domain.question.entity.Question;
+import org.dplay.server.domain.question.entity.QuestionEditorPick;
+import org.dplay.server.domain.question.repository.QuestionEditorPickRepository;
+import org.dplay.server.domain.question.repository.QuestionRepository;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.user.Platform;
+import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드/마이페이지 조회 쿼리가 의도한 인덱스를 사용하는지 EXPLAIN 으로 검증한다.
+ * Hibernate 가 실제로 생성한 SQL 을 StatementInspector 로 가로채 바인딩 파라미터를 상수로 치환한 뒤 실행 계획을 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.dplay.server.domain.post.repository.PostFeedQueryIndexTest$CapturingStatementInspector"
+})
+class PostFeedQueryIndexTest {
+
+    private static final int USER_COUNT = 50;
+    private static final int TRACK_COUNT = 20;
+    private static final int QUESTION_COUNT = 20;
+    private static final int POSTS_PER_QUESTION = 20;
+
+    private static final String TABLE_SCAN = "TABLESCAN";
+    private static final String IDX_POST_QUESTION_LIKE_COUNT = "IDX_POST_QUESTION_LIKE_COUNT";
+    private static final String IDX_POST_QUESTION_CREATED_AT = "IDX_POST_QUESTION_CREATED_AT";
+    private static final String IDX_POST_USER_POST = "IDX_POST_USER_POST";
+    private static final String IDX_POST_USER_QUESTION = "IDX_POST_USER_QUESTION";
+    private static final String IDX_POST_SAVE_USER_POST = "IDX_POST_SAVE_USER_POST";
+    private static final String IDX_QUESTION_EDITOR_PICK_POST = "IDX_QUESTION_EDITOR_PICK_POST";
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PostSaveRepository postSaveRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionEditorPickRepository questionEditorPickRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long questionId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.builder()
+                    .platform(Platform.KAKAO)
+                    .platformId("platform-" + i)
+                    .nickname("테스트유저" + i)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<Track> tracks = new ArrayList<>();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            tracks.add(Track.builder()
+                    .trackId("apple:" + i)
+                    .songTitle("노래" + i)
+                    .artistName("가수" + i)
+                    .build());
+        }
+        tracks = trackRepository.saveAll(tracks);
+
+        List<Post> posts = new ArrayList<>();
+        for (int q = 0; q < QUESTION_COUNT; q++) {
+            Question question = questionRepository.save(Question.builder()
+                    .title("질문" + q)
+                    .displayDate(LocalDate.of(2025, 11, 1).plusDays(q))
+                    .postCount(POSTS_PER_QUESTION)
+                    .build());
+            for (int i = 0; i < POSTS_PER_QUESTION; i++) {
+                posts.add(Post.builder()
+                        .user(users.get((q * POSTS_PER_QUESTION + i) % USER_COUNT))
+                        .question(question)
+                        .track(tracks.get(i % TRACK_COUNT))
+                        .content("이 노래 짱!")
+                        .likeCount(i % 7)
+                        .saveCount(0)
+                        .build());
+            }
+        }
+        posts = postRepository.saveAll(posts);
+
+        User user = users.get(0);
+        List<PostLike> likes = new ArrayList<>();
+        List<PostSave> saves = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i += 3) {
+            likes.add(PostLike.builder().post(posts.get(i)).user(user).build());
+            saves.add(PostSave.builder().post(posts.get(i)).user(user).build());
+        }
+        postLikeRepository.saveAll(likes);
+        postSaveRepository.saveAll(saves);
+
+        Post pickedPost = posts.get(0);
+        questionEditorPickRepository.save(QuestionEditorPick.builder()
+                .question(pickedPost.getQuestion())
+                .post(pickedPost)
+                .position(1)
+                .build());
+
+        postRepository.flush();
+        jdbcTemplate.execute("ANALYZE");
+
+        questionId = pickedPost.getQuestion().getQuestionId();
+        userId = user.getUserId();
+    }
+
+    @Test
+    @DisplayName("인기순 피드는 (question_id, like_count, post_id) 인덱스로 정렬 없이 조회한다")
+    void findFeedPosts_usesQuestionLikeCountIndex() {
+        // When
+        String plan = explain(() -> postRepository.findFeedPosts(questionId, null, null, 20, true));
+
+        // Then
+        assertThat(plan).contains(IDX_POST_QUESTION_LIKE_COUNT, IDX_QUESTION_EDITOR_PICK_POST)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("커서가 있는 인기순 피드도 (question_id, like_count, post_id) 인덱스를 사용한다")
+    void findFeedPosts_withCursor_usesQuestionLikeCountIndex() {
+        // When
+        String plan = explain(() -> postRepository.findFeedPosts(questionId, 3L, 10L, 20, true));
+
+        // Then
+        assertThat(plan).contains(IDX_POST_QUESTION_LIKE_COUNT).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("최신순 피드는 (question_id, created_at, post_id) 인덱스를 사용한다")
+    void findLatestPosts_usesQuestionCreatedAtIndex() {
+        // When
+        String plan = explain(() -> postRepository.findLatestPosts(questionId, 20, true));
+
+        // Then
+        assertThat(plan).contains(IDX_POST_QUESTION_CREATED_AT).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("피드 스냅샷 적재 쿼리는 (question_id, like_count, post_id) 인덱스를 사용한다")
+    void findAllFeedPosts_usesQuestionLikeCountIndex() {
+        // When
+        String plan = explain(() -> postRepository.findAllFeedPosts(questionId, false));
+
+        // Then
+        assertThat(plan).contains(IDX_POST_QUESTION_LIKE_COUNT).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("내가 작성한 글 목록은 (user_id, post_id) 인덱스를 사용한다")
+    void findPostsByUserDesc_usesUserPostIndex() {
+        // When
+        String plan = explain(() -> postRepository.findPostsByUserDesc(userId, Long.MAX_VALUE, 20));
+
+        // Then
+        assertThat(plan).contains(IDX_POST_USER_POST).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("내가 스크랩한 글 목록은 (user_id, post_id) 인덱스를 사용한다")
+    void findSavedPostsByUserDesc_usesSaveUserPostIndex() {
+        // When
+        String plan = explain(() -> postRepository.findSavedPostsByUserDesc(userId, Long.MAX_VALUE, 20));
+
+        // Then
+        assertThat(plan).contains(IDX_POST_SAVE_USER_POST).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("좋아요/스크랩 여부 조회는 두 테이블 모두 인덱스로 조회한다")
+    void findRelationFlags_usesIndexes() {
+        // When
+        String plan = explain(() -> postRepository.findRelationFlags(userId, new long[]{1L, 2L, 3L}));
+
+        // Then
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("좋아요/스크랩 여부는 postId 범위로 조회하되 페이지에 포함된 게시글만 표시한다")
+    void findRelationFlags_rangeBinding_marksOnlyPagePosts() {
+        // Given: 사용자는 0, 3, 6 번째 게시글에 좋아요/스크랩했다
+        List<Long> postIds = postRepository.findAll(Sort.by("postId")).stream()
+                .map(Post::getPostId)
+                .limit(7)
+                .toList();
+        long[] page = {postIds.get(6), postIds.get(1), postIds.get(0)};
+
+        // When
+        PostRelationFlags flags = postRepository.findRelationFlags(userId, page);
+
+        // Then: 범위 안이지만 페이지에 없는 3 번째 게시글은 무시된다
+        assertThat(flags.isLiked(0)).isTrue();
+        assertThat(flags.isScrapped(0)).isTrue();
+        assertThat(flags.isLiked(1)).isFalse();
+        assertThat(flags.isScrapped(1)).isFalse();
+        assertThat(flags.isLiked(2)).isTrue();
+        assertThat(flags.isScrapped(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("게시글/스크랩 수 count 쿼리는 인덱스만으로 처리한다")
+    void countQueries_useIndexes() {
+        // When
+        String questionCountPlan = explain(() -> postRepository.countByQuestionQuestionId(questionId));
+        String userCountPlan = explain(() -> postRepository.countByUserUserId(userId));
+        String saveCountPlan = explain(() -> postSaveRepository.countByUserUserId(userId));
+
+        // Then
+        assertThat(questionCountPlan).containsAnyOf(IDX_POST_QUESTION_LIKE_COUNT, IDX_POST_QUESTION_CREATED_AT)
+                .doesNotContain(TABLE_SCAN);
+        assertThat(userCountPlan).containsAnyOf(IDX_POST_USER_POST, IDX_POST_USER_QUESTION)
+                .doesNotContain(TABLE_SCAN);
+        assertThat(saveCountPlan).contains(IDX_POST_SAVE_USER_POST).doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * query 실행 중 마지막으로 나간 SELECT 문의 실행 계획을 대문자로 반환한다.
+     * 바인딩 파라미터는 모두 숫자이므로 1 로 치환해 EXPLAIN 한다.
+     */
+    private String explain(Runnable query) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.run();
+
+        String select = null;
+        for (String sql : CapturingStatementInspector.STATEMENTS) {
+            if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                select = sql;
+            }
+        }
+        assertThat(select).as("실행된 SELECT 문").isNotNull();
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + select.replace("?", "1"), String.class);
+        return plan.toUpperCase(Locale.ROOT);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package org.dplay.server.domain.post.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeCountBufferTest {
+
+    private static final long FLUSH_THRESHOLD = 5;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private PostLikeCountBuffer postLikeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        postLikeCountBuffer = new PostLikeCountBuffer(jdbcTemplate, transactionManager, taskScheduler, FLUSH_THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("반영 전까지 게시글별 증감분을 합산해 조회할 수 있다")
+    void increment_accumulatesPendingDelta() {
+        // When
+        postLikeCountBuffer.increment(1L, 1);
+        postLikeCountBuffer.increment(1L, 1);
+        postLikeCountBuffer.increment(2L, -1);
+
+        // Then
+        assertThat(postLikeCountBuffer.getPendingDelta(1L)).isEqualTo(2L);
+        assertThat(postLikeCountBuffer.getPendingDelta(2L)).isEqualTo(-1L);
+        assertThat(postLikeCountBuffer.getPendingDelta(3L)).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영 시 게시글별 증감분을 한 번의 배치 UPDATE 로 쓰고 버퍼를 비운다")
+    @SuppressWarnings("unchecked")
+    void flush_writesSingleBatch() {
+        // Given
+        postLikeCountBuffer.increment(1L, 1);
+        postLikeCountBuffer.increment(1L, 1);
+        postLikeCountBuffer.increment(2L, 1);
+        postLikeCountBuffer.increment(3L, 1);
+        postLikeCountBuffer.increment(3L, -1);
+
+        // When
+        postLikeCountBuffer.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batchCaptor.capture());
+        assertThat(batchCaptor.getValue())
+                .extracting(args -> args[2])
+                .containsExactlyInAnyOrder(1L, 2L); // 증감분이 0 인 게시글은 쓰지 않는다
+        assertThat(postLikeCountBuffer.getPendingDelta(1L)).isZero();
+        assertThat(postLikeCountBuffer.getPendingDelta(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("readWithoutFlush 로 읽는 동안에는 다른 스레드의 반영이 끼어들지 않는다")
+    void readWithoutFlush_blocksConcurrentFlush() {
+        // Given
+        postLikeCountBuffer.increment(1L, 1);
+
+        // When
+        long pendingDelta = postLikeCountBuffer.readWithoutFlush(() -> {
+            CompletableFuture.runAsync(postLikeCountBuffer::flush).join();
+            return postLikeCountBuffer.getPendingDelta(1L);
+        });
+
+        // Then
+        assertThat(pendingDelta).isEqualTo(1L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("누적 건수가 임계치에 도달하면 주기를 기다리지 않고 스케줄러 스레드에서 한 번만 반영한다")
+    void increment_reachesThreshold_schedulesFlush() {
+        // When
+        for (int i = 0; i < FLUSH_THRESHOLD + 2; i++) {
+            postLikeCountBuffer.increment(1L, 1);
+        }
+
+        // Then
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(flushCaptor.capture(), any(Instant.class));
+        verifyNoInteractions(jdbcTemplate);
+
+        flushCaptor.getValue().run();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        assertThat(postLikeCountBuffer.getPendingDelta(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 중에 들어온 증감분은 반영이 끝난 뒤에도 버퍼에 남는다")
+    void flush_keepsDeltaAddedDuringFlush() {
+        // Given
+        postLikeCountBuffer.increment(1L, 2);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            postLikeCountBuffer.increment(1L, 1);
+            return new int[]{1};
+        });
+
+        // When
+        postLikeCountBuffer.flush();
+
+        // Then
+        assertThat(postLikeCountBuffer.getPendingDelta(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감분을 버퍼에 남겨 다음 반영 때 다시 시도한다")
+    void flush_failure_restoresPendingDelta() {
+        // Given
+        postLikeCountBuffer.increment(1L, 1);
+        postLikeCountBuffer.increment(1L, 1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        postLikeCountBuffer.flush();
+
+        // Then
+        assertThat(postLikeCountBuffer.getPendingDelta(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 증감분을 모두 반영한다")
+    void drain_flushesRemainingDelta() {
+        // Given
+        postLikeCountBuffer.increment(1L, 1);
+
+        // When
+        postLikeCountBuffer.drain();
+
+        // Then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        assertThat(postLikeCountBuffer.getPendingDelta(1L)).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+package org.dplay.server.domain.post.repository;
+
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.question.entity.Question;
+import org.dplay.server.domain.question.repository.QuestionRepository;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.user.Platform;
+import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.dplay.server.global.config.FlywayConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좋아요/스크랩 추가 네이티브 쿼리(INSERT ... SELECT ... WHERE NOT EXISTS)를 Flyway 로 만든 실제 MySQL 스키마에서 검증한다.
+ * 드라이버 기본 설정(CLIENT_FOUND_ROWS)에서도 추가와 중복을 구분해야 하므로 JDBC URL 은 그대로 사용한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FlywayConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PostRelationInsertMySqlTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 3, 12, 0);
+
+    @Container
+    @ServiceConnection
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PostSaveRepository postSaveRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+
+    private Long postId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .platform(Platform.KAKAO)
+                .platformId("platform-1")
+                .nickname("테스트유저")
+                .build());
+        Question question = questionRepository.save(Question.builder()
+                .title("11월 3일에 듣고 싶은 노래는?")
+                .displayDate(LocalDate.of(2025, 11, 3))
+                .postCount(0)
+                .build());
+        Track track = trackRepository.save(Track.builder()
+                .trackId("apple:1678382")
+                .songTitle("Blueming")
+                .artistName("IU")
+                .build());
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .user(user)
+                .question(question)
+                .track(track)
+                .content("이 노래 짱!")
+                .likeCount(0)
+                .saveCount(0)
+                .build());
+        postId = post.getPostId();
+        userId = user.getUserId();
+    }
+
+    @Test
+    @DisplayName("좋아요는 처음에만 추가되고, 중복 요청은 추가되지 않은 것으로 판단한다")
+    void postLike_insertIfAbsent() {
+        // When
+        boolean first = postLikeRepository.insertIfAbsent(postId, userId, NOW);
+        boolean second = postLikeRepository.insertIfAbsent(postId, userId, NOW.plusSeconds(1));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(postLikeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스크랩은 처음에만 추가되고, 중복 요청은 추가되지 않은 것으로 판단한다")
+    void postSave_insertIfAbsent() {
+        // When
+        boolean first = postSaveRepository.insertIfAbsent(postId, userId, NOW);
+        boolean second = postSaveRepository.insertIfAbsent(postId, userId, NOW.plusSeconds(1));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(postSaveRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 시각의 중복 요청도 추가되지 않은 것으로 판단한다")
+    void postLike_insertIfAbsent_sameTimestamp() {
+        // When
+        boolean first = postLikeRepository.insertIfAbsent(postId, userId, NOW);
+        boolean second = postLikeRepository.insertIfAbsent(postId, userId, NOW);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(postLikeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 대한 좋아요는 중복으로 삼키지 않고 FK 위반으로 실패한다")
+    void postLike_missingPost_throws() {
+        // When & Then
+        assertThatThrownBy(() -> postLikeRepository.insertIfAbsent(postId + 1, userId, NOW))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
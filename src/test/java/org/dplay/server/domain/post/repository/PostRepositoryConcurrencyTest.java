@@ -0,0 +1,226 @@
+package org.dplay.server.domain.post.repository;
+
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.service.PostService;
+import org.dplay.server.domain.post.service.impl.PostLikeServiceImpl;
+import org.dplay.server.domain.question.entity.Question;
+import org.dplay.server.domain.question.repository.QuestionRepository;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.user.Platform;
+import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좋아요 수(쓰기 지연 버퍼 경유)와 스크랩 수 UPDATE 쿼리가 동시 요청에서도 유실 없이 반영되는지 검증한다.
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostRepositoryConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int REQUEST_COUNT = 1_000;
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
+
+    private Post post;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .platform(Platform.KAKAO)
+                .platformId("platform-1")
+                .nickname("테스트유저")
+                .build());
+        Question question = questionRepository.save(Question.builder()
+                .title("11월 3일에 듣고 싶은 노래는?")
+                .displayDate(LocalDate.of(2025, 11, 3))
+                .postCount(0)
+                .build());
+        Track track = trackRepository.save(Track.builder()
+                .trackId("apple:1678382")
+                .songTitle("Blueming")
+                .artistName("IU")
+                .build());
+
+        post = postRepository.save(Post.builder()
+                .user(user)
+                .question(question)
+                .track(track)
+                .content("이 노래 짱!")
+                .likeCount(0)
+                .saveCount(0)
+                .build());
+        postId = post.getPostId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postLikeRepository.deleteAll();
+        postRepository.deleteAll();
+        trackRepository.deleteAll();
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("1,000명의 좋아요가 동시에 들어와도 버퍼를 거쳐 반영된 좋아요 수가 유실되지 않는다")
+    void addLike_concurrentRequests_noLostUpdate() throws Exception {
+        // Given
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .platform(Platform.KAKAO)
+                    .platformId("liker-" + i)
+                    .nickname("좋아요유저" + i)
+                    .build()).getUserId());
+        }
+
+        PostService postService = mock(PostService.class);
+        when(postService.findByPostId(postId)).thenReturn(post);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        // 요청 도중에도 임계치 반영이 끼어들도록 작은 임계치를 사용한다
+        PostLikeCountBuffer postLikeCountBuffer = new PostLikeCountBuffer(jdbcTemplate, transactionManager, taskScheduler, 50);
+        PostLikeServiceImpl postLikeService = new PostLikeServiceImpl(
+                postLikeRepository,
+                postService,
+                userRepository,
+                mock(PostFeedSnapshotRepository.class),
+                postLikeCountBuffer,
+                mock(PostRelationCacheRepository.class),
+                Clock.fixed(Instant.parse("2025-11-03T00:00:00Z"), ZoneId.of("Asia/Seoul"))
+        );
+
+        // When
+        AtomicInteger next = new AtomicInteger();
+        try {
+            runConcurrently(() -> {
+                long userId = userIds.get(next.getAndIncrement());
+                postLikeService.addLike(userId, postId);
+                return 1;
+            });
+            postLikeCountBuffer.drain();
+        } finally {
+            taskScheduler.shutdown();
+        }
+
+        // Then
+        Integer likeCount = jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE post_id = ?", Integer.class, postId);
+        assertThat(likeCount).isEqualTo(REQUEST_COUNT);
+        assertThat(postLikeRepository.count()).isEqualTo(REQUEST_COUNT);
+        assertThat(postLikeCountBuffer.getPendingDelta(postId)).isZero();
+    }
+
+    @Test
+    @DisplayName("1,000건의 스크랩이 동시에 들어와도 증가분이 유실되지 않는다")
+    void addSaveCount_concurrentRequests_noLostUpdate() throws Exception {
+        // When
+        runConcurrently(() -> postRepository.addSaveCount(postId, 1));
+
+        // Then
+        assertThat(postRepository.findSaveCountByPostId(postId)).isEqualTo(REQUEST_COUNT);
+    }
+
+    @Test
+    @DisplayName("스크랩 수는 0 미만으로 내려가지 않는다")
+    void addSaveCount_belowZero_clampedToZero() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        Integer updatedRows = transactionTemplate.execute(status -> postRepository.addSaveCount(postId, -1));
+
+        // Then
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(postRepository.findSaveCountByPostId(postId)).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글은 갱신되지 않는다")
+    void addSaveCount_postNotFound_returnsZero() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        Integer updatedRows = transactionTemplate.execute(status -> postRepository.addSaveCount(postId + 1, 1));
+
+        // Then
+        assertThat(updatedRows).isZero();
+    }
+
+    private void runConcurrently(CounterUpdate update) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    return transactionTemplate.execute(status -> update.apply());
+                }));
+            }
+
+            startLatch.countDown();
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface CounterUpdate {
+        int apply();
+    }
+}
@@ -0,0 +1,144 @@
+package org.dplay.server.domain.post.service;
+
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.repository.PostRepository;
+import org.dplay.server.domain.post.service.impl.PostCountServiceImpl;
+import org.dplay.server.domain.question.entity.Question;
+import org.dplay.server.domain.question.repository.QuestionRepository;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.user.Platform;
+import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 수 집계 컬럼의 증감/재집계 UPDATE 쿼리를 H2 에서 검증한다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(PostCountServiceImpl.class)
+class PostCountServiceImplTest {
+
+    @Autowired
+    private PostCountService postCountService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+
+    private User user;
+    private Question question;
+    private Track track;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .platform(Platform.KAKAO)
+                .platformId("platform-1")
+                .nickname("테스트유저")
+                .build());
+        question = questionRepository.save(Question.builder()
+                .title("11월 3일에 듣고 싶은 노래는?")
+                .displayDate(LocalDate.of(2025, 11, 3))
+                .postCount(0)
+                .build());
+        track = trackRepository.save(Track.builder()
+                .trackId("apple:1678382")
+                .songTitle("Blueming")
+                .artistName("IU")
+                .build());
+    }
+
+    @Test
+    @DisplayName("게시글 작성/삭제 시 질문과 사용자의 게시글 수가 함께 증감한다")
+    void increaseAndDecrease_updatesBothCounters() {
+        // When
+        postCountService.increase(question.getQuestionId(), user.getUserId());
+        postCountService.increase(question.getQuestionId(), user.getUserId());
+        postCountService.decrease(question.getQuestionId(), user.getUserId());
+
+        // Then
+        assertThat(questionRepository.findPostCountByQuestionId(question.getQuestionId())).contains(1);
+        assertThat(userRepository.findPostCountByUserId(user.getUserId())).contains(1);
+    }
+
+    @Test
+    @DisplayName("게시글 수는 0 미만으로 내려가지 않는다")
+    void decrease_belowZero_clampedToZero() {
+        // When
+        postCountService.decrease(question.getQuestionId(), user.getUserId());
+
+        // Then
+        assertThat(questionRepository.findPostCountByQuestionId(question.getQuestionId())).contains(0);
+        assertThat(userRepository.findPostCountByUserId(user.getUserId())).contains(0);
+    }
+
+    @Test
+    @DisplayName("영속 상태의 사용자 엔티티를 수정해도 게시글 수는 덮어쓰지 않는다")
+    void entityFlush_doesNotOverwritePostCount() {
+        // Given
+        postCountService.increase(question.getQuestionId(), user.getUserId());
+
+        // When
+        user.updateNickname("새닉네임");
+        userRepository.flush();
+
+        // Then
+        assertThat(userRepository.findPostCountByUserId(user.getUserId())).contains(1);
+    }
+
+    @Test
+    @DisplayName("재집계 작업은 어긋난 게시글 수를 실제 게시글 수로 바로잡는다")
+    void reconcile_fixesDriftedCounters() {
+        // Given
+        savePost();
+        savePost();
+        postCountService.increase(question.getQuestionId(), user.getUserId());
+
+        // When
+        postCountService.reconcile();
+
+        // Then
+        assertThat(questionRepository.findPostCountByQuestionId(question.getQuestionId())).contains(2);
+        assertThat(userRepository.findPostCountByUserId(user.getUserId())).contains(2);
+    }
+
+    @Test
+    @DisplayName("지정한 질문만 실제 게시글 수로 다시 계산한다")
+    void recountQuestions_recountsGivenQuestions() {
+        // Given
+        savePost();
+        postRepository.flush();
+
+        // When
+        postCountService.recountQuestions(List.of(question.getQuestionId()));
+
+        // Then
+        assertThat(questionRepository.findPostCountByQuestionId(question.getQuestionId())).contains(1);
+    }
+
+    private void savePost() {
+        postRepository.saveAndFlush(Post.builder()
+                .user(user)
+                .question(question)
+                .track(track)
+                .content("이 노래 짱!")
+                .likeCount(0)
+                .saveCount(0)
+                .build());
+    }
+}
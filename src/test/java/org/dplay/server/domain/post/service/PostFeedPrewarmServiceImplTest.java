@@ -0,0 +1,140 @@
+package org.dplay.server.domain.post.service;
+
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.service.impl.PostFeedPrewarmServiceImpl;
+import org.dplay.server.domain.question.entity.Question;
+import org.dplay.server.domain.question.entity.QuestionEditorPick;
+import org.dplay.server.domain.question.service.QuestionEditorPickService;
+import org.dplay.server.domain.question.service.QuestionService;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.service.TrackMetadataSyncService;
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostFeedPrewarmServiceImplTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 5);
+    private static final LocalDate TOMORROW = TODAY.plusDays(1);
+    private static final Long QUESTION_ID = 200L;
+
+    @Mock
+    private QuestionService questionService;
+    @Mock
+    private QuestionEditorPickService questionEditorPickService;
+    @Mock
+    private PostFeedService postFeedService;
+    @Mock
+    private TrackMetadataSyncService trackMetadataSyncService;
+
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        question = Question.builder()
+                .title("출근길에 듣는 노래는?")
+                .displayDate(TOMORROW)
+                .postCount(0)
+                .build();
+        ReflectionTestUtils.setField(question, "questionId", QUESTION_ID);
+    }
+
+    @Test
+    @DisplayName("자정 직전에 실행되면 다음 날 질문의 에디터픽과 피드 스냅샷을 적재한다")
+    void prewarmUpcomingQuestion_beforeMidnight_prewarmsTomorrow() {
+        // Given
+        Track staleTrack = Track.builder().trackId("apple:1").songTitle("노래1").artistName("가수1").build();
+        Track syncedTrack = Track.builder().trackId("apple:2").songTitle("노래2").artistName("가수2").build();
+        QuestionEditorPick pick1 = editorPick(staleTrack, 1);
+        QuestionEditorPick pick2 = editorPick(syncedTrack, 2);
+
+        when(questionService.getQuestionByDate(TOMORROW)).thenReturn(question);
+        when(questionEditorPickService.prewarmEditorPicks(QUESTION_ID)).thenReturn(List.of(pick1, pick2));
+        when(trackMetadataSyncService.needsSync(staleTrack)).thenReturn(true);
+        when(trackMetadataSyncService.needsSync(syncedTrack)).thenReturn(false);
+
+        // When
+        serviceAt(LocalTime.of(23, 59, 50)).prewarmUpcomingQuestion();
+
+        // Then
+        verify(trackMetadataSyncService, times(1)).requestSync("apple:1", "kr");
+        verify(trackMetadataSyncService, never()).requestSync(eq("apple:2"), anyString());
+        verify(postFeedService, times(1)).prewarmFeedSnapshot(QUESTION_ID);
+    }
+
+    @Test
+    @DisplayName("스케줄이 자정 이후로 늦어지면 오늘 질문을 적재한다")
+    void prewarmUpcomingQuestion_afterMidnight_prewarmsToday() {
+        // Given
+        when(questionService.getQuestionByDate(TODAY)).thenReturn(question);
+        when(questionEditorPickService.prewarmEditorPicks(QUESTION_ID)).thenReturn(List.of());
+
+        // When
+        serviceAt(LocalTime.of(0, 0, 10)).prewarmUpcomingQuestion();
+
+        // Then
+        verify(questionService, never()).getQuestionByDate(TOMORROW);
+        verify(postFeedService, times(1)).prewarmFeedSnapshot(QUESTION_ID);
+    }
+
+    @Test
+    @DisplayName("질문이 등록되지 않았으면 적재하지 않는다")
+    void prewarm_questionNotFound_skips() {
+        // Given
+        when(questionService.getQuestionByDate(TOMORROW))
+                .thenThrow(new DPlayException(ResponseError.QUESTION_NOT_FOUND));
+
+        // When
+        boolean prewarmed = serviceAt(LocalTime.of(23, 59, 50)).prewarm(TOMORROW);
+
+        // Then
+        assertThat(prewarmed).isFalse();
+        verify(postFeedService, never()).prewarmFeedSnapshot(anyLong());
+        verifyNoInteractions(questionEditorPickService, trackMetadataSyncService);
+    }
+
+    private PostFeedPrewarmServiceImpl serviceAt(LocalTime time) {
+        Clock clock = Clock.fixed(TODAY.atTime(time).atZone(ZONE).toInstant(), ZONE);
+        return new PostFeedPrewarmServiceImpl(
+                clock,
+                questionService,
+                questionEditorPickService,
+                postFeedService,
+                trackMetadataSyncService,
+                Duration.ofMinutes(1)
+        );
+    }
+
+    private QuestionEditorPick editorPick(Track track, int position) {
+        Post post = Post.builder()
+                .question(question)
+                .track(track)
+                .content("에디터픽 " + position)
+                .likeCount(0)
+                .saveCount(0)
+                .build();
+        return QuestionEditorPick.builder()
+                .question(question)
+                .post(post)
+                .position(position)
+                .build();
+    }
+}
@@ -2,7 +2,11 @@ package org.dplay.server.domain.post.service;
 
 import org.dplay.server.domain.post.dto.PostFeedItemDto;
 import org.dplay.server.domain.post.dto.PostFeedResultDto;
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.dto.PostSummaryDto;
 import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostLikeCountBuffer;
 import org.dplay.server.domain.post.service.impl.PostFeedServiceImpl;
 import org.dplay.server.domain.question.entity.Question;
 import org.dplay.server.domain.question.entity.QuestionEditorPick;
@@ -12,21 +16,27 @@ import org.dplay.server.domain.track.entity.Track;
 import org.dplay.server.domain.user.Platform;
 import org.dplay.server.domain.user.entity.User;
 import org.dplay.server.domain.user.repository.UserRepository;
+import org.dplay.server.global.util.ReadFanOutExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,11 +52,15 @@ class PostFeedServiceImplTest {
     @Mock
     private PostQueryService postQueryService;
     @Mock
-    private PostLikeService postLikeService;
-    @Mock
-    private PostSaveService postSaveService;
+    private PostRelationService postRelationService;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PostFeedSnapshotRepository postFeedSnapshotRepository;
+    @Mock
+    private PostLikeCountBuffer postLikeCountBuffer;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private PostFeedServiceImpl postFeedService;
 
@@ -66,10 +80,14 @@ class PostFeedServiceImplTest {
                 questionService,
                 questionEditorPickService,
                 postQueryService,
-                postLikeService,
-                postSaveService,
-                userRepository
+                postRelationService,
+                userRepository,
+                postFeedSnapshotRepository,
+                postLikeCountBuffer,
+                new ReadFanOutExecutor(new SyncTaskExecutor(), Duration.ofSeconds(1), transactionManager)
         );
+        lenient().when(postLikeCountBuffer.readWithoutFlush(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
 
         user = User.builder()
                 .platform(Platform.KAKAO)
@@ -103,8 +121,7 @@ class PostFeedServiceImplTest {
                 .thenReturn(List.of(editorPick));
         when(postQueryService.existsByQuestionAndUser(QUESTION_ID, USER_ID)).thenReturn(false);
         when(postQueryService.countByQuestion(QUESTION_ID)).thenReturn(1L);
-        when(postLikeService.findLikedPostIds(eq(user), anyList())).thenReturn(List.of());
-        when(postSaveService.findScrappedPostIds(eq(user), anyList())).thenReturn(List.of());
+        when(postRelationService.getRelationFlags(eq(USER_ID), any(long[].class))).thenAnswer(relationFlags(Set.of(), Set.of()));
 
         // When
         PostFeedResultDto result = postFeedService.getPastRecommendationFeed(USER_ID, QUESTION_ID, null, null);
@@ -116,7 +133,7 @@ class PostFeedServiceImplTest {
         assertThat(result.nextCursor()).isNull();
         assertThat(result.items()).hasSize(1);
         assertThat(result.items().get(0).isEditorPick()).isTrue();
-        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyList());
+        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyBoolean());
     }
 
     @Test
@@ -152,17 +169,15 @@ class PostFeedServiceImplTest {
                 .thenReturn(List.of(editorPick1, editorPick2, editorPick3));
         when(postQueryService.existsByQuestionAndUser(QUESTION_ID, USER_ID)).thenReturn(true);
         when(postQueryService.countByQuestion(QUESTION_ID)).thenReturn(5L);
-        when(postQueryService.findFeedPosts(eq(QUESTION_ID), isNull(), isNull(), eq(3), anyList()))
-                .thenReturn(new ArrayListBuilder<Post>()
-                        .add(feedPost1)
-                        .add(feedPost2)
-                        .add(feedPost3)
+        when(postQueryService.findFeedPosts(eq(QUESTION_ID), isNull(), isNull(), eq(3), eq(true)))
+                .thenReturn(new ArrayListBuilder<PostSummaryDto>()
+                        .add(PostSummaryDto.from(feedPost1))
+                        .add(PostSummaryDto.from(feedPost2))
+                        .add(PostSummaryDto.from(feedPost3))
                         .build());
 
-        when(postLikeService.findLikedPostIds(eq(user), anyList()))
-                .thenReturn(List.of(feedPost1.getPostId()));
-        when(postSaveService.findScrappedPostIds(eq(user), anyList()))
-                .thenReturn(List.of(feedPost2.getPostId()));
+        when(postRelationService.getRelationFlags(eq(USER_ID), any(long[].class)))
+                .thenAnswer(relationFlags(Set.of(feedPost1.getPostId()), Set.of(feedPost2.getPostId())));
 
         // When
         PostFeedResultDto result = postFeedService.getPastRecommendationFeed(USER_ID, QUESTION_ID, null, 5);
@@ -173,12 +188,12 @@ class PostFeedServiceImplTest {
         assertThat(result.visibleLimit()).isEqualTo(5);
         assertThat(result.nextCursor()).isNotNull();
         assertThat(result.items()).hasSize(5); // 3 editor picks + 2 feed posts
-        assertThat(result.items().get(0).post().getPostId()).isEqualTo(editorPost1.getPostId());
-        assertThat(result.items().get(3).post().getPostId()).isEqualTo(feedPost1.getPostId());
+        assertThat(result.items().get(0).post().postId()).isEqualTo(editorPost1.getPostId());
+        assertThat(result.items().get(3).post().postId()).isEqualTo(feedPost1.getPostId());
         assertThat(result.items().get(3).isLiked()).isTrue();
         assertThat(result.items().get(4).isScrapped()).isTrue();
 
-        verify(postQueryService).findFeedPosts(eq(QUESTION_ID), isNull(), isNull(), eq(3), anyList());
+        verify(postQueryService).findFeedPosts(eq(QUESTION_ID), isNull(), isNull(), eq(3), eq(true));
     }
 
     @Test
@@ -203,34 +218,41 @@ class PostFeedServiceImplTest {
         when(questionEditorPickService.getOrderedEditorPicks(QUESTION_ID))
                 .thenReturn(List.of(pick1, pick2, pick3));
         when(postQueryService.countByQuestion(QUESTION_ID)).thenReturn(6L);
-        when(postQueryService.findAllFeedPosts(eq(QUESTION_ID), anyList()))
-                .thenReturn(List.of(userPopular, userNewest, userAnother));
-        when(postLikeService.findLikedPostIds(eq(user), anyList())).thenReturn(List.of(userPopular.getPostId()));
-        when(postSaveService.findScrappedPostIds(eq(user), anyList())).thenReturn(List.of(userNewest.getPostId()));
+        when(postQueryService.findAllFeedPosts(QUESTION_ID, false))
+                .thenReturn(List.of(
+                        PostSummaryDto.from(userPopular),
+                        PostSummaryDto.from(userNewest),
+                        PostSummaryDto.from(userAnother)
+                ));
+        when(postRelationService.getRelationFlags(eq(USER_ID), any(long[].class)))
+                .thenAnswer(relationFlags(Set.of(userPopular.getPostId()), Set.of(userNewest.getPostId())));
 
         // When
-        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(USER_ID);
+        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(USER_ID, null, null);
 
         // Then
         assertThat(result.hasPosted()).isTrue();
         assertThat(result.locked()).isFalse();
         List<Long> postIds = result.items().stream()
-                .map(item -> item.post().getPostId())
+                .map(item -> item.post().postId())
                 .toList();
 
         assertThat(postIds.get(0)).isEqualTo(editorPick1.getPostId());
 
         PostFeedItemDto popularItem = result.items().stream()
-                .filter(item -> item.post().getPostId().equals(userPopular.getPostId()))
+                .filter(item -> item.post().postId().equals(userPopular.getPostId()))
                 .findFirst()
                 .orElseThrow();
         assertThat(popularItem.isPopular()).isTrue();
 
         PostFeedItemDto newestItem = result.items().stream()
-                .filter(item -> item.post().getPostId().equals(userNewest.getPostId()))
+                .filter(item -> item.post().postId().equals(userNewest.getPostId()))
                 .findFirst()
                 .orElseThrow();
         assertThat(newestItem.isNew()).isTrue();
+        assertThat(popularItem.isLiked()).isTrue();
+        assertThat(popularItem.isScrapped()).isFalse();
+        assertThat(newestItem.isScrapped()).isTrue();
 
         Set<Long> expectedIds = Set.of(
                 editorPick1.getPostId(),
@@ -242,9 +264,99 @@ class PostFeedServiceImplTest {
         );
         assertThat(postIds).containsExactlyInAnyOrderElementsOf(expectedIds);
 
-        verify(postQueryService).findAllFeedPosts(eq(QUESTION_ID), anyList());
-        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyList());
-        verify(postQueryService, never()).findLatestPosts(anyLong(), anyInt(), anyList());
+        verify(postQueryService).findAllFeedPosts(QUESTION_ID, false);
+        verify(postFeedSnapshotRepository).saveAll(eq(QUESTION_ID), anyList());
+        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyBoolean());
+        verify(postQueryService, never()).findLatestPosts(anyLong(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("오늘 추천글 스냅샷이 있으면 게시글 전체 조회 없이 스냅샷으로 피드를 구성한다")
+    void getTodayRecommendationFeed_snapshotHit_skipsFullScan() {
+        // Given
+        Post editorPick1 = createPost(1L, 10, "editor pick 1", QUESTION_DATE.atStartOfDay().plusHours(8));
+        QuestionEditorPick pick1 = QuestionEditorPick.builder().question(question).post(editorPick1).position(1).build();
+
+        Post userPopular = createPost(10L, 80, "user popular", QUESTION_DATE.atStartOfDay().plusHours(12));
+        Post userNewest = createPost(11L, 20, "user newest", QUESTION_DATE.atStartOfDay().plusHours(23));
+
+        // 스냅샷에는 DB 엔티티보다 최신 좋아요 수가 반영되어 있다
+        List<PostSummaryDto> snapshot = List.of(
+                PostSummaryDto.from(editorPick1).withLikeCount(12),
+                PostSummaryDto.from(userPopular).withLikeCount(81),
+                PostSummaryDto.from(userNewest)
+        );
+
+        when(questionService.getQuestionByDate(QUESTION_DATE)).thenReturn(question);
+        when(postQueryService.existsByQuestionAndUser(QUESTION_ID, USER_ID)).thenReturn(true);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(questionEditorPickService.getOrderedEditorPicks(QUESTION_ID)).thenReturn(List.of(pick1));
+        when(postQueryService.countByQuestion(QUESTION_ID)).thenReturn(3L);
+        when(postFeedSnapshotRepository.findByQuestionId(QUESTION_ID)).thenReturn(Optional.of(snapshot));
+        when(postRelationService.getRelationFlags(eq(USER_ID), any(long[].class))).thenAnswer(relationFlags(Set.of(), Set.of()));
+
+        // When
+        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(USER_ID, null, null);
+
+        // Then
+        assertThat(result.items().stream().map(item -> item.post().postId()))
+                .containsExactly(editorPick1.getPostId(), userPopular.getPostId(), userNewest.getPostId());
+        assertThat(result.items().get(0).post().likeCount()).isEqualTo(12);
+        assertThat(result.items().get(1).post().likeCount()).isEqualTo(81);
+        assertThat(result.items().get(1).isPopular()).isTrue();
+        assertThat(result.items().get(2).isNew()).isTrue();
+
+        verify(postQueryService, never()).findAllFeedPosts(anyLong(), anyBoolean());
+        verify(postFeedSnapshotRepository, never()).saveAll(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("오늘 추천글을 페이지 단위로 조회하면 고정 노출 글 이후 나머지를 중복 없이 같은 순서로 이어서 반환한다")
+    void getTodayRecommendationFeed_paginated_resumesSeededOrder() {
+        // Given
+        Post editorPick1 = createPost(1L, 10, "editor pick 1", QUESTION_DATE.atStartOfDay().plusHours(8));
+        QuestionEditorPick pick1 = QuestionEditorPick.builder().question(question).post(editorPick1).position(1).build();
+
+        List<PostSummaryDto> snapshot = new java.util.ArrayList<>();
+        snapshot.add(PostSummaryDto.from(editorPick1));
+        for (long postId = 10L; postId < 20L; postId++) {
+            Post post = createPost(postId, (int) (30 - postId), "user post " + postId,
+                    QUESTION_DATE.atStartOfDay().plusHours(postId));
+            snapshot.add(PostSummaryDto.from(post));
+        }
+
+        when(questionService.getQuestionByDate(QUESTION_DATE)).thenReturn(question);
+        when(postQueryService.existsByQuestionAndUser(QUESTION_ID, USER_ID)).thenReturn(true);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(questionEditorPickService.getOrderedEditorPicks(QUESTION_ID)).thenReturn(List.of(pick1));
+        when(postQueryService.countByQuestion(QUESTION_ID)).thenReturn(11L);
+        when(postFeedSnapshotRepository.findByQuestionId(QUESTION_ID)).thenReturn(Optional.of(snapshot));
+        when(postRelationService.getRelationFlags(eq(USER_ID), any(long[].class))).thenAnswer(relationFlags(Set.of(), Set.of()));
+
+        // When
+        PostFeedResultDto firstPage = postFeedService.getTodayRecommendationFeed(USER_ID, null, 5);
+        PostFeedResultDto firstPageAgain = postFeedService.getTodayRecommendationFeed(USER_ID, null, 5);
+        PostFeedResultDto secondPage = postFeedService.getTodayRecommendationFeed(USER_ID, firstPage.nextCursor(), 5);
+        PostFeedResultDto thirdPage = postFeedService.getTodayRecommendationFeed(USER_ID, secondPage.nextCursor(), 5);
+
+        // Then
+        List<Long> firstPageIds = firstPage.items().stream().map(item -> item.post().postId()).toList();
+        assertThat(firstPageIds).hasSize(5);
+        assertThat(firstPageIds.subList(0, 3)).containsExactly(1L, 10L, 19L); // 에디터픽1 - 인기 - 최신
+        assertThat(firstPageAgain.items().stream().map(item -> item.post().postId()).toList())
+                .isEqualTo(firstPageIds);
+        assertThat(firstPage.nextCursor()).isNotNull();
+
+        assertThat(secondPage.items()).hasSize(5);
+        assertThat(secondPage.nextCursor()).isNotNull();
+        assertThat(thirdPage.items()).hasSize(1);
+        assertThat(thirdPage.nextCursor()).isNull();
+
+        List<Long> allIds = new java.util.ArrayList<>(firstPageIds);
+        secondPage.items().forEach(item -> allIds.add(item.post().postId()));
+        thirdPage.items().forEach(item -> allIds.add(item.post().postId()));
+        assertThat(allIds).doesNotHaveDuplicates();
+        assertThat(allIds).containsExactlyInAnyOrder(1L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L);
     }
 
     @Test
@@ -276,22 +388,21 @@ class PostFeedServiceImplTest {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
         when(questionEditorPickService.getOrderedEditorPicks(QUESTION_ID)).thenReturn(List.of(pick1, pick2, pick3));
         when(postQueryService.countByQuestion(QUESTION_ID)).thenReturn(10L);
-        when(postLikeService.findLikedPostIds(eq(user), anyList())).thenReturn(List.of());
-        when(postSaveService.findScrappedPostIds(eq(user), anyList())).thenReturn(List.of());
+        when(postRelationService.getRelationFlags(eq(USER_ID), any(long[].class))).thenAnswer(relationFlags(Set.of(), Set.of()));
 
         // When
-        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(USER_ID);
+        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(USER_ID, null, null);
 
         // Then
         assertThat(result.hasPosted()).isFalse();
         assertThat(result.locked()).isTrue();
         assertThat(result.items()).hasSize(3);
         assertThat(result.items().stream().allMatch(PostFeedItemDto::isEditorPick)).isTrue();
-        assertThat(result.items().stream().map(item -> item.post().getPostId()))
+        assertThat(result.items().stream().map(item -> item.post().postId()))
                 .containsExactly(editorPick1.getPostId(), editorPick2.getPostId(), editorPick3.getPostId());
 
-        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyList());
-        verify(postQueryService, never()).findLatestPosts(anyLong(), anyInt(), anyList());
+        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyBoolean());
+        verify(postQueryService, never()).findLatestPosts(anyLong(), anyInt(), anyBoolean());
     }
 
     @Test
@@ -306,21 +417,29 @@ class PostFeedServiceImplTest {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
         when(questionEditorPickService.getOrderedEditorPicks(QUESTION_ID)).thenReturn(List.of(pick1));
         when(postQueryService.countByQuestion(QUESTION_ID)).thenReturn(0L);
-        when(postLikeService.findLikedPostIds(eq(user), anyList())).thenReturn(List.of());
-        when(postSaveService.findScrappedPostIds(eq(user), anyList())).thenReturn(List.of());
+        when(postRelationService.getRelationFlags(eq(USER_ID), any(long[].class))).thenAnswer(relationFlags(Set.of(), Set.of()));
 
         // When
-        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(USER_ID);
+        PostFeedResultDto result = postFeedService.getTodayRecommendationFeed(USER_ID, null, null);
 
         // Then
         assertThat(result.hasPosted()).isFalse();
         assertThat(result.locked()).isTrue();
         assertThat(result.items()).hasSize(1);
-        assertThat(result.items().get(0).post().getPostId()).isEqualTo(editorPick1.getPostId());
+        assertThat(result.items().get(0).post().postId()).isEqualTo(editorPick1.getPostId());
         assertThat(result.items().get(0).isEditorPick()).isTrue();
 
-        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyList());
-        verify(postQueryService, never()).findLatestPosts(anyLong(), anyInt(), anyList());
+        verify(postQueryService, never()).findFeedPosts(anyLong(), any(), any(), anyInt(), anyBoolean());
+        verify(postQueryService, never()).findLatestPosts(anyLong(), anyInt(), anyBoolean());
+    }
+
+    private Answer<PostRelationFlags> relationFlags(Set<Long> likedPostIds, Set<Long> scrappedPostIds) {
+        return invocation -> {
+            PostRelationFlags flags = PostRelationFlags.of(invocation.getArgument(1));
+            likedPostIds.forEach(flags::markLiked);
+            scrappedPostIds.forEach(flags::markScrapped);
+            return flags;
+        };
     }
 
     private Post createPost(Long postId, int likeCount, String content) {
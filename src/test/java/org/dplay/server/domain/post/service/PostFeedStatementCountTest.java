@@ -0,0 +1,230 @@
+package org.dplay.server.domain.post.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.entity.Post;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostLikeCountBuffer;
+import org.dplay.server.domain.post.repository.PostRepository;
+import org.dplay.server.domain.post.service.impl.PostFeedServiceImpl;
+import org.dplay.server.domain.post.service.impl.PostQueryServiceImpl;
+import org.dplay.server.domain.question.entity.Question;
+import org.dplay.server.domain.question.entity.QuestionEditorPick;
+import org.dplay.server.domain.question.repository.QuestionEditorPickRepository;
+import org.dplay.server.domain.question.repository.QuestionRepository;
+import org.dplay.server.domain.question.service.impl.QuestionEditorPickServiceImpl;
+import org.dplay.server.domain.question.service.impl.QuestionServiceImpl;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.user.Platform;
+import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.dplay.server.global.util.ReadFanOutExecutor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 에디터픽 수가 늘어나도 추천글 피드 조회의 SQL 실행 횟수가 변하지 않는지 Hibernate 통계로 검증한다.
+ * Redis 를 사용하는 스냅샷/좋아요 버퍼/좋아요·스크랩 여부는 mock 으로 대체한다.
+ * 지난 피드는 트랜잭션 없이 조회마다 새 트랜잭션을 사용하므로, 테스트 트랜잭션을 쓰지 않고 데이터를 커밋한 뒤 직접 정리한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+        PostFeedServiceImpl.class,
+        PostQueryServiceImpl.class,
+        QuestionServiceImpl.class,
+        QuestionEditorPickServiceImpl.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostFeedStatementCountTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 5);
+
+    @TestConfiguration
+    static class FixedClockConfig {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(TODAY.atTime(12, 0).atZone(ZONE).toInstant(), ZONE);
+        }
+
+        @Bean
+        ReadFanOutExecutor readFanOutExecutor(PlatformTransactionManager transactionManager) {
+            return new ReadFanOutExecutor(new SyncTaskExecutor(), Duration.ofSeconds(5), transactionManager);
+        }
+    }
+
+    @Autowired
+    private PostFeedService postFeedService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionEditorPickRepository questionEditorPickRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private PostRelationService postRelationService;
+    @MockitoBean
+    private PostFeedSnapshotRepository postFeedSnapshotRepository;
+    @MockitoBean
+    private PostLikeCountBuffer postLikeCountBuffer;
+
+    private SessionFactory sessionFactory;
+    private Long questionId;
+    private Long viewerId;
+    private int pickCount;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        when(postRelationService.getRelationFlags(anyLong(), any(long[].class)))
+                .thenAnswer(invocation -> PostRelationFlags.of(invocation.getArgument(1)));
+        when(postLikeCountBuffer.readWithoutFlush(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        Question question = questionRepository.save(Question.builder()
+                .title("11월 5일에 듣고 싶은 노래는?")
+                .displayDate(TODAY)
+                .postCount(0)
+                .build());
+        questionId = question.getQuestionId();
+
+        // 조회하는 사용자도 글을 작성해 잠금이 해제된 피드를 조회한다
+        User viewer = saveUser("viewer");
+        viewerId = viewer.getUserId();
+        savePost(viewer, question, "viewer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionEditorPickRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        trackRepository.deleteAllInBatch();
+        questionRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("오늘의 추천글 피드는 에디터픽 수와 관계없이 같은 횟수의 SQL 로 조회한다")
+    void getTodayRecommendationFeed_statementCountIndependentOfEditorPicks() {
+        // Given
+        addEditorPicks(1);
+        long withOnePick = countStatements(() -> postFeedService.getTodayRecommendationFeed(viewerId, null, null));
+
+        addEditorPicks(5);
+
+        // When
+        long withSixPicks = countStatements(() -> postFeedService.getTodayRecommendationFeed(viewerId, null, null));
+
+        // Then
+        assertThat(withSixPicks).isEqualTo(withOnePick);
+    }
+
+    @Test
+    @DisplayName("지난 추천글 피드는 에디터픽 수와 관계없이 같은 횟수의 SQL 로 조회한다")
+    void getPastRecommendationFeed_statementCountIndependentOfEditorPicks() {
+        // Given
+        addEditorPicks(1);
+        long withOnePick = countStatements(
+                () -> postFeedService.getPastRecommendationFeed(viewerId, questionId, null, null));
+
+        addEditorPicks(5);
+
+        // When
+        long withSixPicks = countStatements(
+                () -> postFeedService.getPastRecommendationFeed(viewerId, questionId, null, null));
+
+        // Then
+        assertThat(withSixPicks).isEqualTo(withOnePick);
+    }
+
+    /**
+     * 2차 캐시를 비운 상태에서 action 이 실행한 SQL 수를 반환한다.
+     */
+    private long countStatements(Runnable action) {
+        sessionFactory.getCache().evictAllRegions();
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 작성자와 트랙이 모두 다른 게시글을 만들어 에디터픽으로 등록한다.
+     */
+    private void addEditorPicks(int count) {
+        Question question = questionRepository.findById(questionId).orElseThrow();
+        for (int i = 0; i < count; i++) {
+            pickCount++;
+            User author = saveUser("editor-pick-" + pickCount);
+            Post post = savePost(author, question, "pick-" + pickCount);
+            questionEditorPickRepository.save(QuestionEditorPick.builder()
+                    .question(question)
+                    .post(post)
+                    .position(pickCount)
+                    .build());
+        }
+    }
+
+    private User saveUser(String platformId) {
+        return userRepository.save(User.builder()
+                .platform(Platform.KAKAO)
+                .platformId(platformId)
+                .nickname(platformId)
+                .build());
+    }
+
+    private Post savePost(User author, Question question, String trackSuffix) {
+        Track track = trackRepository.save(Track.builder()
+                .trackId("apple:" + trackSuffix)
+                .songTitle("노래 " + trackSuffix)
+                .artistName("가수 " + trackSuffix)
+                .build());
+        return postRepository.save(Post.builder()
+                .user(author)
+                .question(question)
+                .track(track)
+                .content("이 노래 짱!")
+                .likeCount(0)
+                .saveCount(0)
+                .build());
+    }
+}
@@ -2,8 +2,10 @@ package org.dplay.server.domain.post.service;
 
 import org.dplay.server.domain.post.dto.PostLikeDto;
 import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.post.entity.PostLike;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostLikeCountBuffer;
 import org.dplay.server.domain.post.repository.PostLikeRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository;
 import org.dplay.server.domain.post.service.impl.PostLikeServiceImpl;
 import org.dplay.server.domain.question.entity.Question;
 import org.dplay.server.domain.track.entity.Track;
@@ -19,16 +21,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PostLikeServiceImplTest {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
     private static final LocalDate FIXED_DATE = LocalDate.of(2025, 11, 3);
 
     @Mock
@@ -37,6 +45,12 @@ class PostLikeServiceImplTest {
     private PostService postService;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PostFeedSnapshotRepository postFeedSnapshotRepository;
+    @Mock
+    private PostLikeCountBuffer postLikeCountBuffer;
+    @Mock
+    private PostRelationCacheRepository postRelationCacheRepository;
 
     private PostLikeServiceImpl postLikeService;
 
@@ -45,7 +59,11 @@ class PostLikeServiceImplTest {
         postLikeService = new PostLikeServiceImpl(
                 postLikeRepository,
                 postService,
-                userRepository
+                userRepository,
+                postFeedSnapshotRepository,
+                postLikeCountBuffer,
+                postRelationCacheRepository,
+                Clock.fixed(FIXED_DATE.atStartOfDay(ZONE).toInstant(), ZONE)
         );
     }
 
@@ -86,26 +104,20 @@ class PostLikeServiceImplTest {
                 .build();
         ReflectionTestUtils.setField(post, "postId", postId);
 
-        PostLike postLike = PostLike.builder()
-                .post(post)
-                .user(user)
-                .build();
-
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userRepository.findById(userId)).thenReturn(java.util.Optional.of(user));
-        when(postLikeRepository.existsByPostAndUser(post, user)).thenReturn(false);
-        when(postLikeRepository.save(any(PostLike.class))).thenReturn(postLike);
-        doNothing().when(postService).incrementLikeCount(post);
+        when(postLikeRepository.insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class))).thenReturn(true);
 
         // When
         PostLikeDto result = postLikeService.addLike(userId, postId);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.likeCount()).isEqualTo(0); // incrementLikeCount 호출 전이므로 0
+        assertThat(result.likeCount()).isEqualTo(1); // 반영 대기 중인 증감분을 포함한 좋아요 수
         verify(postService, times(1)).findByPostId(postId);
-        verify(postLikeRepository, times(1)).save(any(PostLike.class));
-        verify(postService, times(1)).incrementLikeCount(post);
+        verify(postLikeRepository, times(1)).insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class));
+        verify(postLikeCountBuffer, times(1)).increment(postId, 1);
+        verify(postFeedSnapshotRepository, times(1)).incrementLikeCount(1L, postId, 1);
     }
 
     @Test
@@ -126,7 +138,7 @@ class PostLikeServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userRepository, never()).findById(anyLong());
-        verify(postLikeRepository, never()).save(any(PostLike.class));
+        verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(LocalDateTime.class));
     }
 
     @Test
@@ -177,7 +189,7 @@ class PostLikeServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userRepository, times(1)).findById(userId);
-        verify(postLikeRepository, never()).save(any(PostLike.class));
+        verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(LocalDateTime.class));
     }
 
     @Test
@@ -219,7 +231,7 @@ class PostLikeServiceImplTest {
 
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userRepository.findById(userId)).thenReturn(java.util.Optional.of(user));
-        when(postLikeRepository.existsByPostAndUser(post, user)).thenReturn(true);
+        when(postLikeRepository.insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class))).thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> postLikeService.addLike(userId, postId))
@@ -227,8 +239,8 @@ class PostLikeServiceImplTest {
                 .extracting("responseError")
                 .isEqualTo(ResponseError.RESOURCE_ALREADY_EXISTS);
 
-        verify(postLikeRepository, never()).save(any(PostLike.class));
-        verify(postService, never()).incrementLikeCount(any(Post.class));
+        verify(postLikeRepository, times(1)).insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class));
+        verify(postLikeCountBuffer, never()).increment(anyLong(), anyLong());
     }
 
     @Test
@@ -268,27 +280,19 @@ class PostLikeServiceImplTest {
                 .build();
         ReflectionTestUtils.setField(post, "postId", postId);
 
-        PostLike postLike = PostLike.builder()
-                .post(post)
-                .user(user)
-                .build();
-
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userRepository.findById(userId)).thenReturn(java.util.Optional.of(user));
-        when(postLikeRepository.existsByPostAndUser(post, user)).thenReturn(true);
-        when(postLikeRepository.findByPostAndUser(post, user)).thenReturn(java.util.Optional.of(postLike));
-        doNothing().when(postLikeRepository).delete(postLike);
-        doNothing().when(postService).decrementLikeCount(post);
+        when(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).thenReturn(1);
 
         // When
         PostLikeDto result = postLikeService.removeLike(userId, postId);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.likeCount()).isEqualTo(1); // decrementLikeCount 호출 전이므로 1
+        assertThat(result.likeCount()).isEqualTo(0); // 반영 대기 중인 증감분을 포함한 좋아요 수
         verify(postService, times(1)).findByPostId(postId);
-        verify(postLikeRepository, times(1)).delete(postLike);
-        verify(postService, times(1)).decrementLikeCount(post);
+        verify(postLikeRepository, times(1)).deleteByPostIdAndUserId(postId, userId);
+        verify(postLikeCountBuffer, times(1)).increment(postId, -1);
     }
 
     @Test
@@ -309,7 +313,7 @@ class PostLikeServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userRepository, never()).findById(anyLong());
-        verify(postLikeRepository, never()).delete(any(PostLike.class));
+        verify(postLikeRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
     }
 
     @Test
@@ -360,7 +364,7 @@ class PostLikeServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userRepository, times(1)).findById(userId);
-        verify(postLikeRepository, never()).delete(any(PostLike.class));
+        verify(postLikeRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
     }
 
     @Test
@@ -402,7 +406,7 @@ class PostLikeServiceImplTest {
 
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userRepository.findById(userId)).thenReturn(java.util.Optional.of(user));
-        when(postLikeRepository.existsByPostAndUser(post, user)).thenReturn(false);
+        when(postLikeRepository.deleteByPostIdAndUserId(postId, userId)).thenReturn(0);
 
         // When & Then
         assertThatThrownBy(() -> postLikeService.removeLike(userId, postId))
@@ -410,8 +414,8 @@ class PostLikeServiceImplTest {
                 .extracting("responseError")
                 .isEqualTo(ResponseError.TARGET_NOT_FOUND);
 
-        verify(postLikeRepository, never()).delete(any(PostLike.class));
-        verify(postService, never()).decrementLikeCount(any(Post.class));
+        verify(postLikeRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
+        verify(postLikeCountBuffer, never()).increment(anyLong(), anyLong());
     }
 
 }
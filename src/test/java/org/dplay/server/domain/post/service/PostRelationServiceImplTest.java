@@ -0,0 +1,120 @@
+package org.dplay.server.domain.post.service;
+
+import org.dplay.server.domain.post.dto.PostRelationFlags;
+import org.dplay.server.domain.post.repository.PostLikeRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository.Lookup;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository.Relation;
+import org.dplay.server.domain.post.repository.PostSaveRepository;
+import org.dplay.server.domain.post.service.impl.PostRelationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostRelationServiceImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final long[] POST_IDS = {30L, 10L, 20L};
+
+    @Mock
+    private PostRelationCacheRepository postRelationCacheRepository;
+    @Mock
+    private PostLikeRepository postLikeRepository;
+    @Mock
+    private PostSaveRepository postSaveRepository;
+    @Mock
+    private PostQueryService postQueryService;
+
+    private PostRelationServiceImpl postRelationService;
+
+    @BeforeEach
+    void setUp() {
+        postRelationService = new PostRelationServiceImpl(
+                postRelationCacheRepository,
+                postLikeRepository,
+                postSaveRepository,
+                postQueryService
+        );
+    }
+
+    @Test
+    @DisplayName("캐시가 있으면 DB 조회 없이 좋아요/스크랩 여부를 페이지 순서대로 반환한다")
+    void getRelationFlags_cacheHit_skipsDb() {
+        // Given
+        stubLookup(Relation.LIKE, Lookup.HIT, 10L);
+        stubLookup(Relation.SAVE, Lookup.HIT, 30L);
+
+        // When
+        PostRelationFlags flags = postRelationService.getRelationFlags(USER_ID, POST_IDS);
+
+        // Then
+        assertThat(flags.isLiked(1)).isTrue();
+        assertThat(flags.isLiked(0)).isFalse();
+        assertThat(flags.isScrapped(0)).isTrue();
+        assertThat(flags.isScrapped(2)).isFalse();
+        verifyNoInteractions(postLikeRepository, postSaveRepository, postQueryService);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 사용자의 전체 목록을 DB 에서 읽어 캐시를 만들고 그 결과로 응답한다")
+    void getRelationFlags_cacheMiss_rebuildsFromDb() {
+        // Given
+        stubLookup(Relation.LIKE, Lookup.MISS);
+        stubLookup(Relation.SAVE, Lookup.HIT);
+        when(postRelationCacheRepository.getGeneration(USER_ID, Relation.LIKE)).thenReturn(7L);
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of(20L, 999L));
+
+        // When
+        PostRelationFlags flags = postRelationService.getRelationFlags(USER_ID, POST_IDS);
+
+        // Then
+        assertThat(flags.isLiked(2)).isTrue();
+        assertThat(flags.isLiked(0)).isFalse();
+        InOrder inOrder = inOrder(postRelationCacheRepository, postLikeRepository);
+        inOrder.verify(postRelationCacheRepository).getGeneration(USER_ID, Relation.LIKE);
+        inOrder.verify(postLikeRepository).findPostIdsByUserId(USER_ID);
+        inOrder.verify(postRelationCacheRepository).saveAll(USER_ID, Relation.LIKE, 7L, List.of(20L, 999L));
+        verify(postSaveRepository, never()).findPostIdsByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없으면 해당 페이지의 게시글만 DB 에서 조회한다")
+    void getRelationFlags_cacheUnavailable_fallsBackToPageQuery() {
+        // Given
+        PostRelationFlags fallback = PostRelationFlags.of(POST_IDS);
+        stubLookup(Relation.LIKE, Lookup.UNAVAILABLE);
+        when(postQueryService.findRelationFlags(USER_ID, POST_IDS)).thenReturn(fallback);
+
+        // When
+        PostRelationFlags flags = postRelationService.getRelationFlags(USER_ID, POST_IDS);
+
+        // Then
+        assertThat(flags).isSameAs(fallback);
+        verify(postLikeRepository, never()).findPostIdsByUserId(anyLong());
+    }
+
+    private void stubLookup(Relation relation, Lookup lookup, long... memberPostIds) {
+        when(postRelationCacheRepository.findMembers(eq(USER_ID), eq(relation), eq(POST_IDS), any(LongConsumer.class)))
+                .thenAnswer(invocation -> {
+                    LongConsumer marker = invocation.getArgument(3);
+                    for (long postId : memberPostIds) {
+                        marker.accept(postId);
+                    }
+                    return lookup;
+                });
+    }
+}
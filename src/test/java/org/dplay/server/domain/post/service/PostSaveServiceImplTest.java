@@ -2,7 +2,7 @@ package org.dplay.server.domain.post.service;
 
 import org.dplay.server.domain.post.dto.UserPostsResultDto;
 import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.post.entity.PostSave;
+import org.dplay.server.domain.post.repository.PostRelationCacheRepository;
 import org.dplay.server.domain.post.repository.PostRepository;
 import org.dplay.server.domain.post.repository.PostSaveRepository;
 import org.dplay.server.domain.post.service.impl.PostSaveServiceImpl;
@@ -21,18 +21,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PostSaveServiceImplTest {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
     private static final LocalDate FIXED_DATE = LocalDate.of(2025, 11, 3);
 
     @Mock
@@ -43,6 +48,8 @@ class PostSaveServiceImplTest {
     private UserService userService;
     @Mock
     private PostRepository postRepository;
+    @Mock
+    private PostRelationCacheRepository postRelationCacheRepository;
 
     private PostSaveServiceImpl postSaveService;
 
@@ -52,7 +59,9 @@ class PostSaveServiceImplTest {
                 postSaveRepository,
                 postService,
                 postRepository,
-                userService
+                userService,
+                postRelationCacheRepository,
+                Clock.fixed(FIXED_DATE.atStartOfDay(ZONE).toInstant(), ZONE)
         );
     }
 
@@ -93,24 +102,18 @@ class PostSaveServiceImplTest {
                 .build();
         ReflectionTestUtils.setField(post, "postId", postId);
 
-        PostSave postSave = PostSave.builder()
-                .post(post)
-                .user(user)
-                .build();
-
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userService.getUserById(userId)).thenReturn(user);
-        when(postSaveRepository.existsByPostAndUser(post, user)).thenReturn(false);
-        when(postSaveRepository.save(any(PostSave.class))).thenReturn(postSave);
-        doNothing().when(postService).incrementSaveCount(post);
+        when(postSaveRepository.insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class))).thenReturn(true);
+        when(postService.incrementSaveCount(postId)).thenReturn(1);
 
         // When
         postSaveService.addScrap(userId, postId);
 
         // Then
         verify(postService, times(1)).findByPostId(postId);
-        verify(postSaveRepository, times(1)).save(any(PostSave.class));
-        verify(postService, times(1)).incrementSaveCount(post);
+        verify(postSaveRepository, times(1)).insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class));
+        verify(postService, times(1)).incrementSaveCount(postId);
     }
 
     @Test
@@ -131,7 +134,7 @@ class PostSaveServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userService, never()).getUserById(anyLong());
-        verify(postSaveRepository, never()).save(any(PostSave.class));
+        verify(postSaveRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(LocalDateTime.class));
     }
 
     @Test
@@ -183,7 +186,7 @@ class PostSaveServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userService, times(1)).getUserById(userId);
-        verify(postSaveRepository, never()).save(any(PostSave.class));
+        verify(postSaveRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(LocalDateTime.class));
     }
 
     @Test
@@ -225,7 +228,7 @@ class PostSaveServiceImplTest {
 
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userService.getUserById(userId)).thenReturn(user);
-        when(postSaveRepository.existsByPostAndUser(post, user)).thenReturn(true);
+        when(postSaveRepository.insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class))).thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> postSaveService.addScrap(userId, postId))
@@ -233,8 +236,8 @@ class PostSaveServiceImplTest {
                 .extracting("responseError")
                 .isEqualTo(ResponseError.RESOURCE_ALREADY_EXISTS);
 
-        verify(postSaveRepository, never()).save(any(PostSave.class));
-        verify(postService, never()).incrementSaveCount(any(Post.class));
+        verify(postSaveRepository, times(1)).insertIfAbsent(eq(postId), eq(userId), any(LocalDateTime.class));
+        verify(postService, never()).incrementSaveCount(anyLong());
     }
 
     @Test
@@ -274,25 +277,18 @@ class PostSaveServiceImplTest {
                 .build();
         ReflectionTestUtils.setField(post, "postId", postId);
 
-        PostSave postSave = PostSave.builder()
-                .post(post)
-                .user(user)
-                .build();
-
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userService.getUserById(userId)).thenReturn(user);
-        when(postSaveRepository.existsByPostAndUser(post, user)).thenReturn(true);
-        when(postSaveRepository.findByPostAndUser(post, user)).thenReturn(java.util.Optional.of(postSave));
-        doNothing().when(postSaveRepository).delete(postSave);
-        doNothing().when(postService).decrementSaveCount(post);
+        when(postSaveRepository.deleteByPostIdAndUserId(postId, userId)).thenReturn(1);
+        when(postService.decrementSaveCount(postId)).thenReturn(0);
 
         // When
         postSaveService.removeScrap(userId, postId);
 
         // Then
         verify(postService, times(1)).findByPostId(postId);
-        verify(postSaveRepository, times(1)).delete(postSave);
-        verify(postService, times(1)).decrementSaveCount(post);
+        verify(postSaveRepository, times(1)).deleteByPostIdAndUserId(postId, userId);
+        verify(postService, times(1)).decrementSaveCount(postId);
     }
 
     @Test
@@ -313,7 +309,7 @@ class PostSaveServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userService, never()).getUserById(anyLong());
-        verify(postSaveRepository, never()).delete(any(PostSave.class));
+        verify(postSaveRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
     }
 
     @Test
@@ -365,7 +361,7 @@ class PostSaveServiceImplTest {
 
         verify(postService, times(1)).findByPostId(postId);
         verify(userService, times(1)).getUserById(userId);
-        verify(postSaveRepository, never()).delete(any(PostSave.class));
+        verify(postSaveRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
     }
 
     @Test
@@ -407,7 +403,7 @@ class PostSaveServiceImplTest {
 
         when(postService.findByPostId(postId)).thenReturn(post);
         when(userService.getUserById(userId)).thenReturn(user);
-        when(postSaveRepository.existsByPostAndUser(post, user)).thenReturn(false);
+        when(postSaveRepository.deleteByPostIdAndUserId(postId, userId)).thenReturn(0);
 
         // When & Then
         assertThatThrownBy(() -> postSaveService.removeScrap(userId, postId))
@@ -415,8 +411,8 @@ class PostSaveServiceImplTest {
                 .extracting("responseError")
                 .isEqualTo(ResponseError.TARGET_NOT_FOUND);
 
-        verify(postSaveRepository, never()).delete(any(PostSave.class));
-        verify(postService, never()).decrementSaveCount(any(Post.class));
+        verify(postSaveRepository, never()).deleteByPostIdAndUserId(anyLong(), anyLong());
+        verify(postService, never()).decrementSaveCount(anyLong());
     }
 
     @Test
@@ -3,9 +3,9 @@ package org.dplay.server.domain.post.service;
 import org.dplay.server.domain.post.dto.PostDto;
 import org.dplay.server.domain.post.dto.UserPostsResultDto;
 import org.dplay.server.domain.post.entity.Post;
-import org.dplay.server.domain.post.repository.PostLikeRepository;
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostLikeCountBuffer;
 import org.dplay.server.domain.post.repository.PostRepository;
-import org.dplay.server.domain.post.repository.PostSaveRepository;
 import org.dplay.server.domain.post.service.impl.PostServiceImpl;
 import org.dplay.server.domain.question.entity.Question;
 import org.dplay.server.domain.question.service.QuestionEditorPickService;
@@ -16,15 +16,19 @@ import org.dplay.server.domain.user.entity.User;
 import org.dplay.server.domain.user.service.UserService;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.ReadFanOutExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
@@ -43,9 +47,7 @@ class PostServiceImplTest {
     @Mock
     private PostRepository postRepository;
     @Mock
-    private PostLikeRepository postLikeRepository;
-    @Mock
-    private PostSaveRepository postSaveRepository;
+    private PostRelationService postRelationService;
     @Mock
     private PostQueryService postQueryService;
     @Mock
@@ -56,6 +58,14 @@ class PostServiceImplTest {
     private QuestionService questionService;
     @Mock
     private UserService userService;
+    @Mock
+    private PostFeedSnapshotRepository postFeedSnapshotRepository;
+    @Mock
+    private PostLikeCountBuffer postLikeCountBuffer;
+    @Mock
+    private PostCountService postCountService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private PostServiceImpl postService;
 
@@ -64,14 +74,17 @@ class PostServiceImplTest {
         Clock fixedClock = Clock.fixed(FIXED_DATE.atStartOfDay(ZONE).toInstant(), ZONE);
         postService = new PostServiceImpl(
                 postRepository,
-                postLikeRepository,
-                postSaveRepository,
+                postRelationService,
                 postQueryService,
                 questionEditorPickService,
                 trackService,
                 questionService,
                 fixedClock,
-                userService
+                userService,
+                postFeedSnapshotRepository,
+                postLikeCountBuffer,
+                postCountService,
+                new ReadFanOutExecutor(new SyncTaskExecutor(), Duration.ofSeconds(1), transactionManager)
         );
     }
 
@@ -130,6 +143,7 @@ class PostServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.postId()).isEqualTo(1L);
         verify(postRepository, times(1)).save(any(Post.class));
+        verify(postCountService, times(1)).increase(1L, 1L);
     }
 
     @Test
@@ -285,6 +299,8 @@ class PostServiceImplTest {
         // Then
         verify(postRepository, times(1)).findById(postId);
         verify(postRepository, times(1)).delete(post);
+        verify(postFeedSnapshotRepository, times(1)).removePost(1L, postId);
+        verify(postCountService, times(1)).decrease(1L, userId);
     }
 
     @Test
@@ -356,6 +372,110 @@ class PostServiceImplTest {
         verify(postRepository, never()).delete(any(Post.class));
     }
 
+    @Test
+    @DisplayName("게시글 상세 조회 권한이 없으면 트랙 상세와 좋아요/스크랩 여부를 조회하지 않고 FORBIDDEN_RESOURCE 예외를 던진다")
+    void getPostDetailByPostId_forbiddenResource_skipsTrackAndRelationLookups() {
+        // Given
+        long requestUserId = 1L;
+        long postId = 1L;
+
+        User postOwner = User.builder()
+                .platform(org.dplay.server.domain.user.Platform.KAKAO)
+                .platformId("123456")
+                .nickname("글작성자")
+                .build();
+        ReflectionTestUtils.setField(postOwner, "userId", 2L);
+
+        Question question = Question.builder()
+                .title("11월 3일에 듣고 싶은 노래는?")
+                .displayDate(FIXED_DATE)
+                .postCount(0)
+                .build();
+        ReflectionTestUtils.setField(question, "questionId", 1L);
+
+        Track track = Track.builder()
+                .trackId("apple:1678382")
+                .songTitle("Blueming")
+                .artistName("IU")
+                .build();
+
+        Post post = Post.builder()
+                .user(postOwner)
+                .question(question)
+                .track(track)
+                .content("이 노래 짱!")
+                .likeCount(0)
+                .saveCount(0)
+                .build();
+        ReflectionTestUtils.setField(post, "postId", postId);
+
+        when(postRepository.findById(postId)).thenReturn(java.util.Optional.of(post));
+        when(questionEditorPickService.existsByPost(post)).thenReturn(false);
+        when(postRepository.existsByQuestionQuestionIdAndUserUserId(1L, requestUserId)).thenReturn(false);
+        when(userService.existsById(requestUserId)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> postService.getPostDetailByPostId(postId, requestUserId))
+                .isInstanceOf(DPlayException.class)
+                .extracting("responseError")
+                .isEqualTo(ResponseError.FORBIDDEN_RESOURCE);
+
+        verify(trackService, never()).getTrackDetail(any(), any());
+        verify(postRelationService, never()).getRelationFlags(any(), any());
+    }
+
+    @Test
+    @DisplayName("요청한 유저가 없으면 트랙 상세와 좋아요/스크랩 여부를 조회하지 않고 USER_NOT_FOUND 예외를 던진다")
+    void getPostDetailByPostId_userNotFound_skipsTrackAndRelationLookups() {
+        // Given
+        long requestUserId = 1L;
+        long postId = 1L;
+
+        User postOwner = User.builder()
+                .platform(org.dplay.server.domain.user.Platform.KAKAO)
+                .platformId("123456")
+                .nickname("글작성자")
+                .build();
+        ReflectionTestUtils.setField(postOwner, "userId", 2L);
+
+        Question question = Question.builder()
+                .title("11월 3일에 듣고 싶은 노래는?")
+                .displayDate(FIXED_DATE)
+                .postCount(0)
+                .build();
+        ReflectionTestUtils.setField(question, "questionId", 1L);
+
+        Track track = Track.builder()
+                .trackId("apple:1678382")
+                .songTitle("Blueming")
+                .artistName("IU")
+                .build();
+
+        Post post = Post.builder()
+                .user(postOwner)
+                .question(question)
+                .track(track)
+                .content("이 노래 짱!")
+                .likeCount(0)
+                .saveCount(0)
+                .build();
+        ReflectionTestUtils.setField(post, "postId", postId);
+
+        when(postRepository.findById(postId)).thenReturn(java.util.Optional.of(post));
+        when(questionEditorPickService.existsByPost(post)).thenReturn(true);
+        when(postRepository.existsByQuestionQuestionIdAndUserUserId(1L, requestUserId)).thenReturn(false);
+        when(userService.existsById(requestUserId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> postService.getPostDetailByPostId(postId, requestUserId))
+                .isInstanceOf(DPlayException.class)
+                .extracting("responseError")
+                .isEqualTo(ResponseError.USER_NOT_FOUND);
+
+        verify(trackService, never()).getTrackDetail(any(), any());
+        verify(postRelationService, never()).getRelationFlags(any(), any());
+    }
+
     @Test
     @DisplayName("유저가 등록한 곡 리스트를 정상적으로 조회한다")
     void getUserPosts_ok() {
@@ -0,0 +1,117 @@
+package org.dplay.server.domain.question.service;
+
+import org.dplay.server.domain.question.entity.QuestionEditorPick;
+import org.dplay.server.domain.question.repository.QuestionEditorPickRepository;
+import org.dplay.server.domain.question.service.impl.QuestionEditorPickServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionEditorPickServiceImplTest {
+
+    private static final Duration PREWARMED_TTL = Duration.ofMinutes(5);
+    private static final Long NEXT_QUESTION_ID = 2L;
+    private static final Long CURRENT_QUESTION_ID = 1L;
+
+    @Mock
+    private QuestionEditorPickRepository questionEditorPickRepository;
+
+    private MutableClock clock;
+    private QuestionEditorPickServiceImpl questionEditorPickService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-11-03T14:59:50Z"));
+        questionEditorPickService = new QuestionEditorPickServiceImpl(clock, questionEditorPickRepository, PREWARMED_TTL);
+    }
+
+    @Test
+    @DisplayName("미리 적재한 다음 질문의 에디터픽은 자정 이후 조회에서 DB 를 거치지 않고 반환한다")
+    void getOrderedEditorPicks_prewarmed_servedWithoutQuery() {
+        // Given
+        List<QuestionEditorPick> editorPicks = List.of(QuestionEditorPick.builder().position(1).build());
+        when(questionEditorPickRepository.findByQuestionQuestionIdOrderByPositionAsc(NEXT_QUESTION_ID)).thenReturn(editorPicks);
+        questionEditorPickService.prewarmEditorPicks(NEXT_QUESTION_ID);
+
+        // When
+        clock.advance(Duration.ofSeconds(20));
+        List<QuestionEditorPick> result = questionEditorPickService.getOrderedEditorPicks(NEXT_QUESTION_ID);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(editorPicks);
+        verify(questionEditorPickRepository, times(1)).findByQuestionQuestionIdOrderByPositionAsc(NEXT_QUESTION_ID);
+    }
+
+    @Test
+    @DisplayName("적재해 둔 질문이 아닌 현재 질문은 그대로 DB 에서 조회한다")
+    void getOrderedEditorPicks_otherQuestion_queriesRepository() {
+        // Given
+        when(questionEditorPickRepository.findByQuestionQuestionIdOrderByPositionAsc(NEXT_QUESTION_ID)).thenReturn(List.of());
+        when(questionEditorPickRepository.findByQuestionQuestionIdOrderByPositionAsc(CURRENT_QUESTION_ID)).thenReturn(List.of());
+        questionEditorPickService.prewarmEditorPicks(NEXT_QUESTION_ID);
+
+        // When
+        questionEditorPickService.getOrderedEditorPicks(CURRENT_QUESTION_ID);
+
+        // Then
+        verify(questionEditorPickRepository, times(1)).findByQuestionQuestionIdOrderByPositionAsc(CURRENT_QUESTION_ID);
+    }
+
+    @Test
+    @DisplayName("적재분은 TTL 이 지나면 사용하지 않고 DB 에서 다시 조회한다")
+    void getOrderedEditorPicks_afterTtl_queriesRepository() {
+        // Given
+        when(questionEditorPickRepository.findByQuestionQuestionIdOrderByPositionAsc(NEXT_QUESTION_ID)).thenReturn(List.of());
+        questionEditorPickService.prewarmEditorPicks(NEXT_QUESTION_ID);
+
+        // When
+        clock.advance(PREWARMED_TTL);
+        questionEditorPickService.getOrderedEditorPicks(NEXT_QUESTION_ID);
+
+        // Then
+        verify(questionEditorPickRepository, times(2)).findByQuestionQuestionIdOrderByPositionAsc(NEXT_QUESTION_ID);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.dplay.server.domain.question.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.dplay.server.domain.question.dto.QuestionDto;
 import org.dplay.server.domain.question.entity.Question;
 import org.dplay.server.domain.question.repository.QuestionRepository;
 import org.dplay.server.domain.question.service.impl.QuestionServiceImpl;
 import org.dplay.server.global.exception.DPlayException;
 import org.dplay.server.global.response.ResponseError;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,13 +37,19 @@ class QuestionServiceImplTest {
 
     @Mock
     private QuestionRepository questionRepository;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private SessionFactory sessionFactory;
+    @Mock
+    private Cache cache;
 
     private QuestionServiceImpl questionService;
 
     @BeforeEach
     void setUp() {
         Clock fixedClock = Clock.fixed(FIXED_DATE.atStartOfDay(ZONE).toInstant(), ZONE);
-        questionService = new QuestionServiceImpl(fixedClock, questionRepository);
+        questionService = new QuestionServiceImpl(fixedClock, questionRepository, entityManagerFactory);
     }
 
     @Test
@@ -62,13 +73,41 @@ class QuestionServiceImplTest {
     }
 
     @Test
-    @DisplayName("오늘 질문이 없으면 예외를 던진다")
+    @DisplayName("오늘 질문이 없으면 쿼리 캐시를 비우지 않고 예외를 던진다")
     void getTodayQuestion_notFound_throws() {
         when(questionRepository.findByDisplayDate(FIXED_DATE)).thenReturn(Optional.empty());
+        when(questionRepository.existsByDisplayDate(FIXED_DATE)).thenReturn(false);
 
         assertThatThrownBy(() -> questionService.getTodayQuestion())
                 .isInstanceOf(DPlayException.class)
                 .hasMessageContaining(ResponseError.QUESTION_NOT_FOUND.getMessage());
+        verifyNoInteractions(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("캐시된 빈 결과 이후 질문이 등록되었으면 쿼리 캐시를 비우고 다시 조회한다")
+    void getTodayQuestion_registeredAfterCachedMiss_evictsAndReloads() {
+        // Given: 쿼리 캐시에는 빈 결과가 남아 있지만 DB 에는 질문이 등록되어 있다
+        Question q = Question.builder()
+                .title("11월 3일에 듣고 싶은 노래는?")
+                .displayDate(FIXED_DATE)
+                .postCount(0)
+                .build();
+        ReflectionTestUtils.setField(q, "questionId", 1L);
+
+        when(questionRepository.findByDisplayDate(FIXED_DATE))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(q));
+        when(questionRepository.existsByDisplayDate(FIXED_DATE)).thenReturn(true);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        // When
+        QuestionDto dto = questionService.getTodayQuestion();
+
+        // Then
+        assertThat(dto.questionId()).isEqualTo(1L);
+        verify(cache).evictQueryRegion(QuestionRepository.DISPLAY_DATE_QUERY_REGION);
     }
 
     @Test
@@ -0,0 +1,67 @@
+package org.dplay.server.domain.track.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.dplay.server.domain.track.entity.Track;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * trackId 조회가 2차 캐시(natural id 캐시 + 엔티티 캐시)를 거치는지 Hibernate 통계로 검증한다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class TrackLookupRepositoryImplTest {
+
+    @Autowired
+    private TrackRepository trackRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        trackRepository.saveAndFlush(Track.builder()
+                .trackId("apple:1678382")
+                .songTitle("Blueming")
+                .artistName("IU")
+                .build());
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 트랙은 다음 조회부터 DB 를 거치지 않고 2차 캐시에서 반환한다")
+    void findByTrackId_secondLookup_servedFromCache() {
+        // Given
+        assertThat(trackRepository.findByTrackId("apple:1678382")).isPresent();
+        entityManager.clear();
+        long queriesAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        // When
+        Track track = trackRepository.findByTrackId("apple:1678382").orElseThrow();
+
+        // Then
+        assertThat(track.getSongTitle()).isEqualTo("Blueming");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(queriesAfterFirstLookup);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 trackId 는 빈 값을 반환한다")
+    void findByTrackId_notFound_returnsEmpty() {
+        // When & Then
+        assertThat(trackRepository.findByTrackId("apple:unknown")).isEmpty();
+    }
+}
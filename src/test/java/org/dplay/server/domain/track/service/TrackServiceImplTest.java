@@ -0,0 +1,181 @@
+package org.dplay.server.domain.track.service;
+
+import org.dplay.server.domain.music.openfeign.apple.service.AppleMusicService;
+import org.dplay.server.domain.music.openfeign.apple.service.AppleMusicService.MusicTrackMetadataResult;
+import org.dplay.server.domain.track.dto.TrackDetailResultDto;
+import org.dplay.server.domain.track.dto.TrackPreviewResultDto;
+import org.dplay.server.domain.track.entity.Track;
+import org.dplay.server.domain.track.repository.TrackRepository;
+import org.dplay.server.domain.track.service.impl.TrackServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrackServiceImplTest {
+
+    private static final String TRACK_ID = "apple:1678382";
+    private static final String PREVIEW_URL = "https://audio-ssl.itunes.apple.com/preview.m4a";
+
+    @Mock
+    private TrackRepository trackRepository;
+    @Mock
+    private AppleMusicService appleMusicService;
+    @Mock
+    private TrackMetadataSyncService trackMetadataSyncService;
+
+    private TrackServiceImpl trackService;
+
+    @BeforeEach
+    void setUp() {
+        trackService = new TrackServiceImpl(
+                trackRepository,
+                appleMusicService,
+                trackMetadataSyncService
+        );
+    }
+
+    @Test
+    @DisplayName("메타데이터가 채워진 트랙의 미리듣기는 Apple Music을 호출하지 않고 DB에서 반환한다")
+    void getPreview_syncedTrack_servesFromDb() {
+        // Given
+        Track track = track();
+        track.updateMetadata("Love poem", 217000L, PREVIEW_URL, "https://example.com/{w}x{h}.jpg", LocalDateTime.now());
+        when(trackRepository.findByTrackId(TRACK_ID)).thenReturn(Optional.of(track));
+        when(trackMetadataSyncService.needsSync(track)).thenReturn(false);
+
+        // When
+        TrackPreviewResultDto result = trackService.getPreview(TRACK_ID, null);
+
+        // Then
+        assertThat(result.streamUrl()).isEqualTo(PREVIEW_URL);
+        assertThat(result.sessionId()).startsWith("pvw_");
+        verify(appleMusicService, never()).getTrackMetadata(anyString(), anyString());
+        verify(trackMetadataSyncService, never()).requestSync(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("메타데이터가 오래된 트랙은 DB 값으로 응답하고 비동기 갱신을 요청한다")
+    void getPreview_staleTrack_requestsRefresh() {
+        // Given
+        Track track = track();
+        track.updateMetadata("Love poem", 217000L, PREVIEW_URL, null, LocalDateTime.now().minusDays(30));
+        when(trackRepository.findByTrackId(TRACK_ID)).thenReturn(Optional.of(track));
+        when(trackMetadataSyncService.needsSync(track)).thenReturn(true);
+
+        // When
+        TrackPreviewResultDto result = trackService.getPreview(TRACK_ID, "us");
+
+        // Then
+        assertThat(result.streamUrl()).isEqualTo(PREVIEW_URL);
+        verify(trackMetadataSyncService, times(1)).requestSync(TRACK_ID, "us");
+        verify(appleMusicService, never()).getTrackMetadata(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("메타데이터가 없는 트랙은 Apple Music에서 조회하고, 조회한 값을 저장하도록 요청한다")
+    void getPreview_unsyncedTrack_fetchesAndSaves() {
+        // Given
+        Track track = track();
+        MusicTrackMetadataResult metadata = new MusicTrackMetadataResult(TRACK_ID, "Love poem", 217000L, PREVIEW_URL, null);
+        when(trackRepository.findByTrackId(TRACK_ID)).thenReturn(Optional.of(track));
+        when(appleMusicService.getTrackMetadata(TRACK_ID, "kr")).thenReturn(metadata);
+
+        // When
+        TrackPreviewResultDto result = trackService.getPreview(TRACK_ID, null);
+
+        // Then
+        assertThat(result.streamUrl()).isEqualTo(PREVIEW_URL);
+        verify(trackMetadataSyncService, times(1)).requestSave(TRACK_ID, metadata);
+    }
+
+    @Test
+    @DisplayName("DB에 없는 트랙의 미리듣기는 Apple Music에서 조회하고 저장 요청은 하지 않는다")
+    void getPreview_unknownTrack_fetchesFromAppleMusic() {
+        // Given
+        MusicTrackMetadataResult metadata = new MusicTrackMetadataResult(TRACK_ID, null, null, null, null);
+        when(trackRepository.findByTrackId(TRACK_ID)).thenReturn(Optional.empty());
+        when(appleMusicService.getTrackMetadata(TRACK_ID, "kr")).thenReturn(metadata);
+
+        // When
+        TrackPreviewResultDto result = trackService.getPreview(TRACK_ID, "");
+
+        // Then
+        assertThat(result.streamUrl()).isNull();
+        verify(trackMetadataSyncService, never()).requestSave(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("트랙 상세는 DB에서 반환하며, 메타데이터가 오래되면 비동기 갱신을 요청한다")
+    void getTrackDetail_staleTrack_requestsRefresh() {
+        // Given
+        Track track = track();
+        when(trackRepository.findByTrackId(TRACK_ID)).thenReturn(Optional.of(track));
+        when(trackMetadataSyncService.needsSync(track)).thenReturn(true);
+
+        // When
+        TrackDetailResultDto result = trackService.getTrackDetail(TRACK_ID, null);
+
+        // Then
+        assertThat(result.songTitle()).isEqualTo("Blueming");
+        verify(trackMetadataSyncService, times(1)).requestSync(TRACK_ID, "kr");
+        verify(appleMusicService, never()).getTrackDetail(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다건 상세 조회는 DB 히트는 IN 쿼리로, 미스는 Apple Music 다건 조회로 채우고 요청 순서를 유지한다")
+    void getTrackDetails_mixesDbAndAppleMusic() {
+        // Given
+        Track track = track();
+        List<String> trackIds = List.of("apple:1", TRACK_ID, "apple:404", "apple:1");
+        when(trackRepository.findByTrackIdIn(List.of("apple:1", TRACK_ID, "apple:404"))).thenReturn(List.of(track));
+        when(trackMetadataSyncService.needsSync(track)).thenReturn(false);
+        when(appleMusicService.getTrackDetails(List.of("apple:1", "apple:404"), "kr")).thenReturn(List.of(
+                new AppleMusicService.MusicTrackDetailResult("apple:1", "Love wins all", "IU", null, null)
+        ));
+
+        // When
+        List<TrackDetailResultDto> result = trackService.getTrackDetails(trackIds, null);
+
+        // Then
+        assertThat(result).extracting(TrackDetailResultDto::trackId).containsExactly("apple:1", TRACK_ID);
+        assertThat(result).extracting(TrackDetailResultDto::songTitle).containsExactly("Love wins all", "Blueming");
+        verify(appleMusicService, never()).getTrackDetail(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("트랙을 생성하면 메타데이터 동기화를 요청한다")
+    void createTrack_requestsSync() {
+        // Given
+        when(trackRepository.save(any(Track.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Track result = trackService.createTrack(TRACK_ID, "Blueming", "IU", "https://example.com/512x512.jpg", "KRA381902392");
+
+        // Then
+        assertThat(result.getTrackId()).isEqualTo(TRACK_ID);
+        verify(trackMetadataSyncService, times(1)).requestSync(TRACK_ID, "kr");
+    }
+
+    private Track track() {
+        return Track.builder()
+                .trackId(TRACK_ID)
+                .songTitle("Blueming")
+                .artistName("IU")
+                .coverImg("https://example.com/512x512.jpg")
+                .isrc("KRA381902392")
+                .build();
+    }
+}
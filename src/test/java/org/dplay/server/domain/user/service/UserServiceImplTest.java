@@ -0,0 +1,126 @@
+package org.dplay.server.domain.user.service;
+
+import org.dplay.server.domain.post.repository.PostFeedSnapshotRepository;
+import org.dplay.server.domain.post.repository.PostRepository;
+import org.dplay.server.domain.s3.S3Service;
+import org.dplay.server.domain.user.Platform;
+import org.dplay.server.domain.user.entity.User;
+import org.dplay.server.domain.user.repository.UserRepository;
+import org.dplay.server.domain.user.service.impl.UserServiceImpl;
+import org.dplay.server.global.util.NicknameValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private NicknameValidator nicknameValidator;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostFeedSnapshotRepository postFeedSnapshotRepository;
+
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(
+                userRepository,
+                s3Service,
+                nicknameValidator,
+                postRepository,
+                postFeedSnapshotRepository
+        );
+    }
+
+    @Test
+    @DisplayName("닉네임을 변경하면 작성한 질문들의 피드 스냅샷을 폐기한다")
+    void updateNickname_evictsAuthorSnapshots() {
+        // Given
+        User user = user("기존닉네임");
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(userRepository.existsByNickname("새닉네임")).thenReturn(false);
+        when(postRepository.findQuestionIdsByUser(user)).thenReturn(List.of(10L, 11L));
+
+        // When
+        userService.updateNickname(USER_ID, "새닉네임");
+
+        // Then
+        assertThat(user.getNickname()).isEqualTo("새닉네임");
+        verify(postFeedSnapshotRepository, times(1)).evictAll(List.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("닉네임이 그대로면 피드 스냅샷을 폐기하지 않는다")
+    void updateNickname_sameNickname_keepsSnapshots() {
+        // Given
+        User user = user("기존닉네임");
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        // When
+        userService.updateNickname(USER_ID, "기존닉네임");
+
+        // Then
+        verify(postRepository, never()).findQuestionIdsByUser(any());
+        verify(postFeedSnapshotRepository, never()).evictAll(any());
+    }
+
+    @Test
+    @DisplayName("프로필 이미지를 변경하면 작성한 질문들의 피드 스냅샷을 폐기한다")
+    void updateProfileImage_evictsAuthorSnapshots() throws Exception {
+        // Given
+        User user = user("기존닉네임");
+        MockMultipartFile profileImg = new MockMultipartFile("profileImg", "profile.png", "image/png", new byte[]{1});
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(s3Service.uploadImage(profileImg)).thenReturn("https://cdn.dplay/profile.png");
+        when(postRepository.findQuestionIdsByUser(user)).thenReturn(List.of(10L));
+
+        // When
+        userService.updateProfileImage(USER_ID, profileImg);
+
+        // Then
+        assertThat(user.getProfileImg()).isEqualTo("https://cdn.dplay/profile.png");
+        verify(postFeedSnapshotRepository, times(1)).evictAll(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("프로필 이미지가 전달되지 않으면 피드 스냅샷을 폐기하지 않는다")
+    void updateProfileImage_noImage_keepsSnapshots() throws Exception {
+        // Given
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user("기존닉네임")));
+
+        // When
+        userService.updateProfileImage(USER_ID, null);
+
+        // Then
+        verify(postRepository, never()).findQuestionIdsByUser(any());
+        verify(postFeedSnapshotRepository, never()).evictAll(any());
+    }
+
+    private User user(String nickname) {
+        return User.builder()
+                .nickname(nickname)
+                .platformId("platform-id")
+                .platform(Platform.KAKAO)
+                .build();
+    }
+}
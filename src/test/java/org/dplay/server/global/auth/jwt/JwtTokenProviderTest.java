@@ -0,0 +1,142 @@
+package org.dplay.server.global.auth.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final long ACCESS_EXPIRATION_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final String SECRET_KEY = "dplay-test-secret-key-for-hs256-signing-0123456789";
+    private static final String OTHER_SECRET_KEY = "dplay-other-secret-key-for-hs256-signing-987654321";
+    private static final Long USER_ID = 42L;
+
+    private MutableClock clock;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clock = new MutableClock(Instant.parse("2025-11-03T00:00:00Z"));
+        jwtTokenProvider = provider(SECRET_KEY);
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 서명을 다시 검증하지 않고 캐시에서 userId 를 반환한다")
+    void getUserIdFromJwt_verifiedToken_servedFromCache() throws Exception {
+        // Given
+        String token = jwtTokenProvider.generateToken(USER_ID, true);
+        assertThat(jwtTokenProvider.getUserIdFromJwt(token)).isEqualTo(USER_ID);
+
+        // When: 서명 키를 바꿔 다시 검증하면 실패하도록 만든다
+        swapSigningKey(OTHER_SECRET_KEY);
+
+        // Then
+        assertThat(jwtTokenProvider.getUserIdFromJwt(token)).isEqualTo(USER_ID);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 캐시하지 않고 매번 서명을 검증한다")
+    void getUserIdFromJwt_refreshToken_notCached() throws Exception {
+        // Given
+        String refreshToken = jwtTokenProvider.generateToken(USER_ID, false);
+        assertThat(jwtTokenProvider.getUserIdFromJwt(refreshToken)).isEqualTo(USER_ID);
+
+        // When
+        swapSigningKey(OTHER_SECRET_KEY);
+
+        // Then
+        assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromJwt(refreshToken))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("캐시된 항목은 토큰의 exp 에 만료되어 이후 요청은 다시 검증한다")
+    void getUserIdFromJwt_cachedEntry_expiresAtTokenExpiration() {
+        // Given
+        String token = jwtTokenProvider.generateToken(USER_ID, true);
+        jwtTokenProvider.getUserIdFromJwt(token);
+
+        // When: exp 직전까지는 캐시에서 반환
+        clock.advance(Duration.ofMillis(ACCESS_EXPIRATION_MILLIS - 1_000));
+        assertThat(jwtTokenProvider.getUserIdFromJwt(token)).isEqualTo(USER_ID);
+
+        // Then: exp 이후에는 캐시를 쓰지 않고 검증해 만료 예외를 던진다
+        clock.advance(Duration.ofSeconds(2));
+        assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromJwt(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰을 변조하면 SHA-256 이 달라 캐시를 쓰지 않고 서명 검증에서 실패한다")
+    void getUserIdFromJwt_tamperedToken_notServedFromCache() {
+        // Given
+        String token = jwtTokenProvider.generateToken(USER_ID, true);
+        jwtTokenProvider.getUserIdFromJwt(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = jwtTokenProvider.generateToken(7L, true).split("\\.")[1];
+        String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromJwt(tampered))
+                .isInstanceOf(SignatureException.class);
+        assertThat(jwtTokenProvider.getUserIdFromJwt(token)).isEqualTo(USER_ID);
+    }
+
+    private JwtTokenProvider provider(String secretKey) throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider(clock);
+        ReflectionTestUtils.setField(provider, "accessTokenExpirationTime", ACCESS_EXPIRATION_MILLIS);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpirationTime", Duration.ofDays(14).toMillis());
+        ReflectionTestUtils.setField(provider, "secretKey", secretKey);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaximumSize", 100L);
+        provider.afterPropertiesSet();
+        return provider;
+    }
+
+    /**
+     * 캐시는 유지한 채 서명 검증기만 다른 키로 교체한다.
+     */
+    private void swapSigningKey(String secretKey) throws Exception {
+        JwtTokenProvider other = provider(secretKey);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtParser", ReflectionTestUtils.getField(other, "jwtParser"));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
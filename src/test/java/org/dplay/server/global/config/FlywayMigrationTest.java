@@ -0,0 +1,150 @@
+package org.dplay.server.global.config;
+
+import org.dplay.server.global.util.HashUtil;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * db/migration/mysql 스크립트가 실제 MySQL 에서 순서대로 적용되는지 검증한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway(null).clean();
+    }
+
+    @Test
+    @DisplayName("빈 DB 에 모든 마이그레이션이 적용된다")
+    void migrate_emptyDatabase() {
+        // When
+        MigrateResult result = flyway(null).migrate();
+
+        // Then
+        assertThat(result.success).isTrue();
+        assertThat(result.targetSchemaVersion).isEqualTo("6");
+        assertThat(columnExists("users", "post_count")).isTrue();
+        assertThat(columnExists("track", "artwork_url")).isTrue();
+        assertThat(indexExists("post", "idx_post_question_like_count")).isTrue();
+        assertThat(indexExists("post", "idx_post_user")).isFalse();
+    }
+
+    @Test
+    @DisplayName("V1 스키마에 데이터가 있는 DB 도 이후 마이그레이션이 적용되고 집계 컬럼이 채워진다")
+    void migrate_fromBaselineWithData() {
+        // Given
+        flyway("1").migrate();
+        jdbcTemplate.update("INSERT INTO users (user_id, nickname, platform_id, platform, push_on) VALUES (1, 'user', 'platform-1', 'KAKAO', 0)");
+        jdbcTemplate.update("INSERT INTO question (question_id, title, display_date, post_count) VALUES (1, 'question', '2025-01-01', 0)");
+        jdbcTemplate.update("INSERT INTO track (id, track_id, song_title, artist_name) VALUES (1, 'track-1', 'song', 'artist')");
+        jdbcTemplate.update("INSERT INTO post (post_id, user_id, question_id, track_id, content, like_count, save_count) VALUES (1, 1, 1, 1, 'content', 0, 0)");
+
+        // When
+        MigrateResult result = flyway(null).migrate();
+
+        // Then
+        assertThat(result.success).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT post_count FROM users WHERE user_id = 1", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT post_count FROM question WHERE question_id = 1", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("users.refresh_token 의 기존 토큰은 해시와 exp 기반 만료 시각으로 refresh_token 테이블에 옮겨진다")
+    void migrate_movesLegacyRefreshTokens() {
+        // Given
+        flyway("2").migrate();
+        long exp = 1_767_225_600L; // 2026-01-01T00:00:00Z
+        String legacyToken = jwt("{\"sub\":\"1\",\"exp\":" + exp + "}");
+        jdbcTemplate.update("INSERT INTO users (user_id, nickname, platform_id, platform, push_on, refresh_token) VALUES (1, 'user', 'platform-1', 'KAKAO', 0, ?)", legacyToken);
+        jdbcTemplate.update("INSERT INTO users (user_id, nickname, platform_id, platform, push_on, refresh_token) VALUES (2, 'broken', 'platform-2', 'KAKAO', 0, 'not-a-jwt')");
+
+        // When
+        MigrateResult result = flyway(null).migrate();
+
+        // Then
+        assertThat(result.success).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT token_hash FROM refresh_token WHERE user_id = 1", String.class))
+                .containsExactly(HashUtil.sha256Hex(legacyToken));
+        assertThat(jdbcTemplate.queryForObject("SELECT expires_at FROM refresh_token WHERE user_id = 1", LocalDateTime.class))
+                .isEqualTo(LocalDateTime.ofInstant(Instant.ofEpochSecond(exp), ZoneId.of("Asia/Seoul")));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token WHERE user_id = 2", Integer.class)).isZero();
+        assertThat(columnExists("users", "refresh_token")).isFalse();
+    }
+
+    /**
+     * 애플리케이션과 같은 flyway.properties 값으로 Flyway 를 구성한다.
+     */
+    private Flyway flyway(String target) {
+        Properties properties = loadFlywayProperties();
+        var configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .cleanDisabled(false)
+                .locations(properties.getProperty("spring.flyway.locations").replace("{vendor}", "mysql"))
+                .baselineOnMigrate(Boolean.parseBoolean(properties.getProperty("spring.flyway.baseline-on-migrate")))
+                .baselineVersion(properties.getProperty("spring.flyway.baseline-version"));
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private Properties loadFlywayProperties() {
+        try {
+            return PropertiesLoaderUtils.loadProperties(new ClassPathResource("flyway.properties"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String jwt(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, index);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,147 @@
+package org.dplay.server.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.dplay.server.global.auth.UserAuthentication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationRoutingDataSourceTest {
+
+    private static final String REPLICA_1 = "replica-1";
+    private static final String REPLICA_2 = "replica-2";
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private HikariDataSource replica1;
+    @Mock
+    private HikariDataSource replica2;
+
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        when(replica1.getPoolName()).thenReturn(REPLICA_1);
+        when(replica2.getPoolName()).thenReturn(REPLICA_2);
+        routingDataSource = new ReplicationRoutingDataSource(
+                primary,
+                List.of(replica1, replica2),
+                new PrimaryPinningWindow(Duration.ofSeconds(5))
+        );
+        routingDataSource.afterPropertiesSet();
+        SecurityContextHolder.getContext().setAuthentication(UserAuthentication.createUserAuthentication(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 를 번갈아 사용한다")
+    void readOnlyTransaction_routesToReplicasRoundRobin() {
+        // Given
+        beginTransaction(true);
+
+        // When
+        Object first = routingDataSource.determineCurrentLookupKey();
+        Object second = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 를 사용한다")
+    void writeTransaction_routesToPrimary() {
+        // Given
+        beginTransaction(false);
+
+        // When & Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY_KEY);
+    }
+
+    @Test
+    @DisplayName("replica 커넥션 획득에 실패하면 primary 커넥션을 반환한다")
+    void replicaConnectionFailure_failsOverToPrimary() throws SQLException {
+        // Given
+        Connection primaryConnection = mock(Connection.class);
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replica2.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        beginTransaction(true);
+
+        // When
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Then
+        assertThat(first).isSameAs(primaryConnection);
+        assertThat(second).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션을 커밋한 사용자는 이후 읽기도 primary 에서 처리한다")
+    void readAfterWrite_pinnedToPrimary() {
+        // Given
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When
+        beginTransaction(true);
+
+        // Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY_KEY);
+    }
+
+    @Test
+    @DisplayName("헬스 체크에 실패한 replica 는 제외하고 남은 replica 에서 읽는다")
+    void unhealthyReplica_excludedFromRouting() throws SQLException {
+        // Given
+        Connection replica2Connection = mock(Connection.class);
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+        when(replica2Connection.isValid(anyInt())).thenReturn(true);
+        beginTransaction(true);
+
+        // When
+        routingDataSource.checkReplicas();
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Then
+        assertThat(first).isSameAs(replica2Connection);
+        assertThat(second).isSameAs(replica2Connection);
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,195 @@
+package org.dplay.server.global.util;
+
+import org.dplay.server.global.auth.UserAuthentication;
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+import org.dplay.server.global.util.ReadFanOutExecutor.Subtask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReadFanOutExecutorTest {
+
+    private ThreadPoolTaskExecutor taskExecutor;
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(4);
+        taskExecutor.setQueueCapacity(0);
+        taskExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskExecutor.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("독립적인 조회를 동시에 실행하므로 전체 시간은 가장 느린 조회 시간에 가깝다")
+    void join_runsTasksConcurrently() {
+        // Given
+        ReadFanOutExecutor fanOut = new ReadFanOutExecutor(taskExecutor, Duration.ofSeconds(5), transactionManager);
+        long startedAt = System.nanoTime();
+
+        // When
+        try (ReadFanOutExecutor.Scope scope = fanOut.open()) {
+            Subtask<String> first = scope.fork(() -> sleepAndReturn(300, "first"));
+            Subtask<String> second = scope.fork(() -> sleepAndReturn(300, "second"));
+            Subtask<String> third = scope.fork(() -> sleepAndReturn(300, "third"));
+            scope.join();
+
+            // Then
+            assertThat(first.get()).isEqualTo("first");
+            assertThat(second.get()).isEqualTo("second");
+            assertThat(third.get()).isEqualTo("third");
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(800));
+    }
+
+    @Test
+    @DisplayName("하나가 실패하면 나머지를 기다리지 않고 그 예외를 그대로 던진다")
+    void join_taskFails_throwsFirstFailureWithoutWaiting() {
+        // Given
+        ReadFanOutExecutor fanOut = new ReadFanOutExecutor(taskExecutor, Duration.ofSeconds(5), transactionManager);
+        long startedAt = System.nanoTime();
+
+        // When & Then
+        try (ReadFanOutExecutor.Scope scope = fanOut.open()) {
+            scope.fork(() -> sleepAndReturn(2_000, "slow"));
+            scope.fork(() -> {
+                throw new DPlayException(ResponseError.FORBIDDEN_RESOURCE);
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(DPlayException.class)
+                    .extracting("responseError")
+                    .isEqualTo(ResponseError.FORBIDDEN_RESOURCE);
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("작업별 timeout 이 지나면 EXTERNAL_API_TIMEOUT 예외를 던진다")
+    void join_taskTimesOut_throwsTimeout() {
+        // Given
+        ReadFanOutExecutor fanOut = new ReadFanOutExecutor(taskExecutor, Duration.ofSeconds(5), transactionManager);
+
+        // When & Then
+        try (ReadFanOutExecutor.Scope scope = fanOut.open()) {
+            scope.fork(() -> sleepAndReturn(10, "fast"));
+            scope.fork(() -> sleepAndReturn(2_000, "slow"), Duration.ofMillis(100));
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(DPlayException.class)
+                    .extracting("responseError")
+                    .isEqualTo(ResponseError.EXTERNAL_API_TIMEOUT);
+        }
+    }
+
+    @Test
+    @DisplayName("실행기가 가득 차면 요청 스레드에서 직접 실행한다")
+    void fork_executorSaturated_runsOnCallerThread() throws Exception {
+        // Given
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setMaxPoolSize(1);
+        ReadFanOutExecutor fanOut = new ReadFanOutExecutor(taskExecutor, Duration.ofSeconds(5), transactionManager);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+
+        // When
+        try (ReadFanOutExecutor.Scope scope = fanOut.open()) {
+            scope.fork(() -> {
+                await(release);
+                return "occupied";
+            });
+            Subtask<Thread> overflow = scope.fork(Thread::currentThread);
+            release.countDown();
+            scope.join();
+
+            // Then
+            assertThat(overflow.get()).isSameAs(caller);
+        }
+    }
+
+    @Test
+    @DisplayName("작업은 요청 스레드의 인증 정보를 이어받는다")
+    void fork_propagatesSecurityContext() {
+        // Given
+        ReadFanOutExecutor fanOut = new ReadFanOutExecutor(taskExecutor, Duration.ofSeconds(5), transactionManager);
+        SecurityContextHolder.getContext().setAuthentication(UserAuthentication.createUserAuthentication(7L));
+        AtomicReference<Object> principal = new AtomicReference<>();
+
+        // When
+        try (ReadFanOutExecutor.Scope scope = fanOut.open()) {
+            scope.fork(() -> {
+                principal.set(SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+                return null;
+            });
+            scope.join();
+        }
+
+        // Then
+        assertThat(principal.get()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("작업은 작업 timeout 과 같은 timeout 의 읽기 전용 트랜잭션에서 실행된다")
+    void fork_runsTaskInReadOnlyTransactionWithTaskTimeout() {
+        // Given
+        ReadFanOutExecutor fanOut = new ReadFanOutExecutor(taskExecutor, Duration.ofSeconds(5), transactionManager);
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+        // When
+        try (ReadFanOutExecutor.Scope scope = fanOut.open()) {
+            scope.fork(() -> "default");
+            scope.fork(() -> "custom", Duration.ofMillis(1_500));
+            scope.join();
+        }
+
+        // Then
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues())
+                .allMatch(TransactionDefinition::isReadOnly)
+                .extracting(TransactionDefinition::getTimeout)
+                .containsExactlyInAnyOrder(5, 2);
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.dplay.server.global.util;
+
+import org.dplay.server.global.exception.DPlayException;
+import org.dplay.server.global.response.ResponseError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 호출은 loader 를 한 번만 실행하고 결과를 공유한다")
+    void execute_concurrentSameKey_loadsOnce() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(100, Duration.ofSeconds(5));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("kr:1678382", () -> {
+                loadCount.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "Blueming";
+            })));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("kr:1678382", () -> {
+                    loadCount.incrementAndGet();
+                    return "other";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Blueming");
+            }
+            assertThat(loadCount.get()).isEqualTo(1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("leader 의 예외는 대기 중인 호출에도 그대로 전파된다")
+    void execute_leaderFails_propagatesToFollowers() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(100, Duration.ofSeconds(5));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute("kr:1", () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw new DPlayException(ResponseError.TARGET_NOT_FOUND);
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> singleFlight.execute("kr:1", () -> "unused"));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DPlayException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DPlayException.class);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 EXTERNAL_API_TIMEOUT 예외를 던지고 멈춘 키를 제거한다")
+    void execute_slowLeader_followerTimesOut() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(100, Duration.ofMillis(100));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> singleFlight.execute("kr:1", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "late";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then
+            assertThatThrownBy(() -> singleFlight.execute("kr:1", () -> "unused"))
+                    .isInstanceOf(DPlayException.class)
+                    .extracting("responseError")
+                    .isEqualTo(ResponseError.EXTERNAL_API_TIMEOUT);
+            assertThat(singleFlight.execute("kr:1", () -> "fresh")).isEqualTo("fresh");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 키가 최대치에 도달하면 합치지 않고 바로 실행한다")
+    void execute_tableFull_bypasses() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(1, Duration.ofSeconds(5));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> singleFlight.execute("kr:1", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "first";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            String result = singleFlight.execute("kr:2", () -> "second");
+
+            // Then
+            assertThat(result).isEqualTo("second");
+            assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}